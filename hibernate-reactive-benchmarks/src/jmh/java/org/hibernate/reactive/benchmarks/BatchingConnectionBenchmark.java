@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Measures the grouping of interleaved statements into batches by
+ * {@link BatchingConnection}, with and without a
+ * {@link BatchingConnection.StatementOrdering} which allows the
+ * statements to be reordered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchingConnectionBenchmark {
+
+	private static final String[] STATEMENTS = {
+			"insert into Author (name, id) values ($1, $2)",
+			"insert into Book (title, author_id, id) values ($1, $2, $3)",
+			"insert into Review (text, book_id, id) values ($1, $2, $3)"
+	};
+
+	private static final ReactiveConnection.Expectation NONE = (rowCount, batchPosition, sql) -> {};
+
+	@Param({ "strict", "reordering" })
+	String ordering;
+
+	@Param({ "20" })
+	int batchSize;
+
+	@Param({ "300" })
+	int statementCount;
+
+	@Benchmark
+	public int executeInterleavedStatements() {
+		final StubConnection delegate = new StubConnection();
+		final BatchingConnection connection = new BatchingConnection( delegate, batchSize, statementOrdering() );
+		CompletionStage<Void> flush = loop( 0, statementCount, i -> connection.update(
+				STATEMENTS[i % STATEMENTS.length],
+				new Object[] { "value", i, i },
+				true,
+				NONE
+		) ).thenCompose( v -> connection.executeBatch() );
+		flush.toCompletableFuture().join();
+		return delegate.getStatementCount();
+	}
+
+	private BatchingConnection.StatementOrdering statementOrdering() {
+		return "strict".equals( ordering )
+				? BatchingConnection.StatementOrdering.STRICT
+				: (sql, earlierSql) -> !references( sql, earlierSql );
+	}
+
+	/**
+	 * Each statement inserts a row which references the row
+	 * inserted by the statement before it in the array.
+	 */
+	private static boolean references(String sql, String earlierSql) {
+		for ( int i = 1; i < STATEMENTS.length; i++ ) {
+			if ( STATEMENTS[i].equals( sql ) ) {
+				return STATEMENTS[i - 1].equals( earlierSql );
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,77 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Measures the overhead of {@link CompletionStages#loop} when each
+ * step completes immediately, as is typical when the entities are
+ * already in the persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompletionStagesBenchmark {
+
+	@Param({ "10", "1000" })
+	int size;
+
+	private List<Integer> list;
+
+	@Setup
+	public void setup() {
+		list = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			list.add( i );
+		}
+	}
+
+	@Benchmark
+	public void loopOverRange(Blackhole blackhole) {
+		CompletionStage<Void> loop = CompletionStages.loop( 0, size, i -> {
+			blackhole.consume( i );
+			return voidFuture();
+		} );
+		blackhole.consume( loop.toCompletableFuture().join() );
+	}
+
+	@Benchmark
+	public void loopOverList(Blackhole blackhole) {
+		CompletionStage<Void> loop = CompletionStages.loop( list, element -> {
+			blackhole.consume( element );
+			return voidFuture();
+		} );
+		blackhole.consume( loop.toCompletableFuture().join() );
+	}
+
+	@Benchmark
+	public void loopOverArrayWithFilter(Blackhole blackhole) {
+		Integer[] array = list.toArray( new Integer[0] );
+		CompletionStage<Void> loop = CompletionStages.loop( array, i -> i % 2 == 0, i -> {
+			blackhole.consume( array[i] );
+			return voidFuture();
+		} );
+		blackhole.consume( loop.toCompletableFuture().join() );
+	}
+}
@@ -0,0 +1,131 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a flush of newly persisted entities, including the
+ * sorting and execution of the insert actions by the reactive
+ * action queue, against a {@link StubConnectionPool}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FlushBenchmark {
+
+	@Param({ "false", "true" })
+	boolean orderInserts;
+
+	@Param({ "0", "50" })
+	int batchSize;
+
+	@Param({ "100" })
+	int parentCount;
+
+	private SessionFactory factory;
+	private Stage.SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		Configuration configuration = new Configuration()
+				.addAnnotatedClass( Parent.class )
+				.addAnnotatedClass( Child.class )
+				.setProperty( Settings.DIALECT, PostgreSQL10Dialect.class.getName() )
+				// there's no database to ask for its metadata
+				.setProperty( "hibernate.temp.use_jdbc_metadata_defaults", "false" )
+				.setProperty( Settings.SQL_CLIENT_POOL, StubConnectionPool.class.getName() )
+				.setProperty( Settings.ORDER_INSERTS, String.valueOf( orderInserts ) )
+				.setProperty( Settings.STATEMENT_BATCH_SIZE, String.valueOf( batchSize ) );
+		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.build();
+		factory = configuration.buildSessionFactory( registry );
+		sessionFactory = factory.unwrap( Stage.SessionFactory.class );
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		// interleave the parents and their children, so
+		// that there's some work for the ordering to do
+		Object[] entities = new Object[parentCount * 3];
+		for ( int i = 0; i < parentCount; i++ ) {
+			Parent parent = new Parent( i );
+			entities[i * 3] = parent;
+			entities[i * 3 + 1] = new Child( i * 2, parent );
+			entities[i * 3 + 2] = new Child( i * 2 + 1, parent );
+		}
+
+		Stage.Session session = sessionFactory.openSession();
+		session.persist( entities )
+				.thenCompose( v -> session.flush() )
+				.whenComplete( (v, x) -> session.close() )
+				.toCompletableFuture()
+				.join();
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "Parent")
+	public static class Parent {
+		@Id
+		Integer id;
+		String name;
+
+		public Parent() {
+		}
+
+		Parent(Integer id) {
+			this.id = id;
+			this.name = "Parent " + id;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "Child")
+	public static class Child {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		Child(Integer id, Parent parent) {
+			this.id = id;
+			this.name = "Child " + id;
+			this.parent = parent;
+		}
+	}
+}
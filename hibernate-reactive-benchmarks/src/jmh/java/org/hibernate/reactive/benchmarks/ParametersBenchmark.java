@@ -0,0 +1,53 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.impl.Parameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the conversion of JDBC-style {@code ?} parameters to
+ * the native PostgreSQL format by {@link Parameters#process}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParametersBenchmark {
+
+	private static final String INSERT =
+			"insert into Book (author_id, isbn, published, title, price, version, id) values (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String SELECT =
+			"select book0_.id as id1_1_0_, book0_.author_id as author_i2_1_0_, book0_.isbn as isbn3_1_0_, "
+					+ "book0_.title as title4_1_0_ from Book book0_ where book0_.title like ? and book0_.price < ? "
+					+ "and book0_.isbn not in ('?', 'x?y') order by book0_.title";
+
+	private final Parameters parameters = Parameters.instance( new PostgreSQL10Dialect() );
+
+	@Benchmark
+	public String processInsert() {
+		return parameters.process( INSERT );
+	}
+
+	@Benchmark
+	public String processInsertWithParameterCount() {
+		return parameters.process( INSERT, 7 );
+	}
+
+	@Benchmark
+	public String processSelectWithQuotedText() {
+		return parameters.process( SELECT );
+	}
+}
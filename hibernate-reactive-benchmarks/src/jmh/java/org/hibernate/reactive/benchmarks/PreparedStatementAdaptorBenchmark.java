@@ -0,0 +1,57 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the collection of parameter bindings by
+ * {@link PreparedStatementAdaptor#bind}, as performed for
+ * every statement executed by Hibernate Reactive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PreparedStatementAdaptorBenchmark {
+
+	@Param({ "5", "40" })
+	int parameterCount;
+
+	private final LocalDate date = LocalDate.of( 2021, 6, 1 );
+
+	@Benchmark
+	public Object[] bind() {
+		return PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 1; i <= parameterCount; i++ ) {
+				switch ( i % 4 ) {
+					case 0:
+						statement.setLong( i, i );
+						break;
+					case 1:
+						statement.setString( i, "value" );
+						break;
+					case 2:
+						statement.setObject( i, date );
+						break;
+					default:
+						statement.setNull( i, Types.INTEGER );
+				}
+			}
+		} );
+	}
+}
@@ -0,0 +1,79 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading every column of every row of a {@link ResultSetAdaptor}
+ * by column label, the way Hibernate hydrates entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultSetAdaptorBenchmark {
+
+	@Param({ "10", "60" })
+	int columnCount;
+
+	@Param({ "100" })
+	int rowCount;
+
+	private StubRowSet rows;
+	private String[] labels;
+
+	@Setup
+	public void setup() {
+		labels = new String[columnCount];
+		List<String> columnNames = new ArrayList<>( columnCount );
+		for ( int i = 0; i < columnCount; i++ ) {
+			// the sort of column alias generated by Hibernate
+			labels[i] = "column" + i + "_1_0_";
+			columnNames.add( labels[i] );
+		}
+		List<Object[]> values = new ArrayList<>( rowCount );
+		for ( int row = 0; row < rowCount; row++ ) {
+			Object[] rowValues = new Object[columnCount];
+			for ( int i = 0; i < columnCount; i++ ) {
+				rowValues[i] = i % 2 == 0 ? (Object) (long) row : "value " + row;
+			}
+			values.add( rowValues );
+		}
+		rows = new StubRowSet( columnNames, values );
+	}
+
+	@Benchmark
+	public void hydrate(Blackhole blackhole) throws SQLException {
+		ResultSet resultSet = new ResultSetAdaptor( rows );
+		while ( resultSet.next() ) {
+			for ( int i = 0; i < labels.length; i++ ) {
+				if ( i % 2 == 0 ) {
+					blackhole.consume( resultSet.getLong( labels[i] ) );
+				}
+				else {
+					blackhole.consume( resultSet.getString( labels[i] ) );
+				}
+				blackhole.consume( resultSet.wasNull() );
+			}
+		}
+	}
+}
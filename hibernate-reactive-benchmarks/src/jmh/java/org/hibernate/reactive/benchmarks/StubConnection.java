@@ -0,0 +1,184 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnection} which doesn't talk to a database:
+ * every statement affects exactly one row, and every query returns
+ * no rows. Every operation completes immediately.
+ */
+public class StubConnection implements ReactiveConnection {
+
+	private static final Result NO_RESULTS = new Result() {
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return false;
+		}
+
+		@Override
+		public Object[] next() {
+			throw new NoSuchElementException();
+		}
+	};
+
+	private int statements;
+
+	/**
+	 * @return the number of statements executed by this connection,
+	 *         counting each statement in a batch
+	 */
+	public int getStatementCount() {
+		return statements;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		statements++;
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		statements++;
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		statements++;
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		statements++;
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues ).thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		statements += paramValues.size();
+		int[] rowCounts = new int[paramValues.size()];
+		Arrays.fill( rowCounts, 1 );
+		return completedFuture( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		statements++;
+		return completedFuture( NO_RESULTS );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		statements++;
+		return completedFuture( NO_RESULTS );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		statements++;
+		return completedFuture( new ResultSetAdaptor( new StubRowSet( Collections.emptyList(), Collections.emptyList() ) ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return selectJdbc( sql, paramValues ).thenApply( resultSet -> new Cursor() {
+			private boolean read;
+
+			@Override
+			public CompletionStage<ResultSet> read(int count) {
+				read = true;
+				return completedFuture( resultSet );
+			}
+
+			@Override
+			public boolean hasMore() {
+				return !read;
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return voidFuture();
+			}
+		} );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		statements++;
+		return completedFuture( (long) statements );
+	}
+
+	@Override
+	public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+		statements++;
+		final Long[] identifiers = new Long[paramValues.size()];
+		for ( int i = 0; i < identifiers.length; i++ ) {
+			identifiers[i] = (long) statements * 1000 + i;
+		}
+		return completedFuture( identifiers );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		statements++;
+		return completedFuture( (long) statements );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return voidFuture();
+	}
+
+	@Override
+	public boolean isPipelined() {
+		return false;
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return voidFuture();
+	}
+}
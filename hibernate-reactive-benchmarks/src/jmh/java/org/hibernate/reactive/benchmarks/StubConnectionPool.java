@@ -0,0 +1,49 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnectionPool} which hands out a new
+ * {@link StubConnection} every time it's asked for a connection,
+ * so that benchmarks may open sessions without a database.
+ *
+ * @see org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL
+ */
+public class StubConnectionPool implements ReactiveConnectionPool {
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return completedFuture( new StubConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new StubConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return getProxyConnection();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return voidFuture();
+	}
+}
@@ -0,0 +1,128 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmarks;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+
+/**
+ * An in-memory Vert.x {@link RowSet}, standing in for the rows
+ * returned by a query.
+ */
+class StubRowSet implements RowSet<Row> {
+
+	private final List<String> columnNames;
+	private final List<Object[]> values;
+
+	StubRowSet(List<String> columnNames, List<Object[]> values) {
+		this.columnNames = columnNames;
+		this.values = values;
+	}
+
+	@Override
+	public RowIterator<Row> iterator() {
+		final Iterator<Object[]> iterator = values.iterator();
+		return new RowIterator<Row>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Row next() {
+				return new StubRow( columnNames, iterator.next() );
+			}
+		};
+	}
+
+	@Override
+	public int rowCount() {
+		return values.size();
+	}
+
+	@Override
+	public List<String> columnsNames() {
+		return columnNames;
+	}
+
+	@Override
+	public List<ColumnDescriptor> columnDescriptors() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	public <V> V property(PropertyKind<V> propertyKind) {
+		return null;
+	}
+
+	@Override
+	public RowSet<Row> value() {
+		return this;
+	}
+
+	@Override
+	public RowSet<Row> next() {
+		return null;
+	}
+
+	/**
+	 * A row holding its values in an array, like the rows of
+	 * the Vert.x drivers.
+	 */
+	private static class StubRow implements Row {
+
+		private final List<String> columnNames;
+		private final Object[] values;
+
+		StubRow(List<String> columnNames, Object[] values) {
+			this.columnNames = columnNames;
+			this.values = values;
+		}
+
+		@Override
+		public String getColumnName(int pos) {
+			return columnNames.get( pos );
+		}
+
+		@Override
+		public int getColumnIndex(String column) {
+			// the drivers search the list of columns, too
+			return columnNames.indexOf( column );
+		}
+
+		@Override
+		public Object getValue(int pos) {
+			return values[pos];
+		}
+
+		@Override
+		public Row addValue(Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
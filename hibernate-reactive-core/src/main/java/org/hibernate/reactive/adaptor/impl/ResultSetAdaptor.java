@@ -37,7 +37,10 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * An adaptor that allows Hibenate core code which expects a JDBC
@@ -50,11 +53,48 @@ public class ResultSetAdaptor implements ResultSet {
 	private Row row;
 	private boolean wasNull;
 
+	/**
+	 * Maps each column label to its (zero-based) position in the rows,
+	 * so that we don't need to search the list of columns every time
+	 * we read a value from a row.
+	 */
+	private Map<String, Integer> columnIndexes;
+
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
 	}
 
+	private Map<String, Integer> columnIndexes() {
+		if ( columnIndexes == null ) {
+			List<String> names = rows.columnsNames();
+			columnIndexes = new HashMap<>( names.size() * 4 / 3 + 1 );
+			for ( int i = 0; i < names.size(); i++ ) {
+				// if there are two columns with the same label, the first wins
+				columnIndexes.putIfAbsent( names.get( i ), i );
+			}
+		}
+		return columnIndexes;
+	}
+
+	/**
+	 * @return the zero-based position of the given column in the rows
+	 */
+	private int index(String columnLabel) {
+		Integer index = columnIndexes().get( columnLabel );
+		if ( index == null ) {
+			// let the driver decide if the label matches a column
+			// (some drivers ignore case, for example)
+			int driverIndex = row.getColumnIndex( columnLabel );
+			if ( driverIndex < 0 ) {
+				throw new NoSuchElementException( "Column " + columnLabel + " does not exist" );
+			}
+			columnIndexes.put( columnLabel, driverIndex );
+			return driverIndex;
+		}
+		return index;
+	}
+
 	@Override
 	public boolean next() {
 		if ( iterator.hasNext() ) {
@@ -180,55 +220,55 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
+		String string = row.getString( index( columnLabel ) );
 		return (wasNull=string==null) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
-		Boolean bool = row.getBoolean( columnLabel );
+		Boolean bool = row.getBoolean( index( columnLabel ) );
 		wasNull = bool == null;
 		return !wasNull && bool;
 	}
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( index( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short aShort = row.getShort( columnLabel );
+		Short aShort = row.getShort( index( columnLabel ) );
 		wasNull = aShort == null;
 		return wasNull ? 0 : aShort;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( index( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long aLong = row.getLong( columnLabel );
+		Long aLong = row.getLong( index( columnLabel ) );
 		wasNull = aLong == null;
 		return wasNull ? 0 : aLong;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat( columnLabel );
+		Float real = row.getFloat( index( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble( columnLabel );
+		Double real = row.getDouble( index( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
@@ -240,38 +280,38 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer( columnLabel );
+		Buffer buffer = row.getBuffer( index( columnLabel ) );
 		wasNull = buffer == null;
 		return wasNull ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
+		LocalDate localDate = row.getLocalDate( index( columnLabel ) );
 		return (wasNull=localDate==null) ? null : java.sql.Date.valueOf(localDate);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
+		LocalTime localTime = row.getLocalTime( index( columnLabel ) );
 		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
 	}
 
 	@Override
 	public Time getTime(String columnLabel, Calendar cal) {
-		LocalTime localTime = row.getLocalTime( columnLabel );
+		LocalTime localTime = row.getLocalTime( index( columnLabel ) );
 		return ( wasNull = localTime == null ) ? null : Time.valueOf( localTime );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( index( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.valueOf( toLocalDateTime(rawValue) );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel, Calendar cal) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( index( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.from( toOffsetDateTime(rawValue, cal).toInstant() );
 	}
 
@@ -317,7 +357,7 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
+		T object = row.get( type, index( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -473,14 +513,18 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		Object object = row.getValue( index( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
 	@Override
 	public int findColumn(String columnLabel) {
-		return rows.columnsNames().indexOf(columnLabel)+1;
-//		return row.getColumnIndex( columnLabel );
+		Integer index = columnIndexes().get( columnLabel );
+		if ( index == null ) {
+			// fall back to the driver, as in index(), when positioned on a row
+			return row == null ? 0 : row.getColumnIndex( columnLabel ) + 1;
+		}
+		return index + 1;
 	}
 
 	@Override
@@ -491,7 +535,7 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
+		BigDecimal decimal = row.getBigDecimal( index( columnLabel ) );
 		return (wasNull=decimal==null) ? null : decimal;
 	}
 
@@ -698,7 +742,7 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		Buffer buffer = (Buffer) row.getValue( columnLabel );
+		Buffer buffer = (Buffer) row.getValue( index( columnLabel ) );
 		wasNull = buffer == null;
 		return wasNull ? null : BlobProxy.generateProxy( buffer.getBytes() );
 	}
@@ -9,8 +9,10 @@
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.DB297Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -39,6 +41,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.Delete;
 import org.hibernate.sql.Update;
@@ -58,6 +61,11 @@
  * <p>
  * Note that this class features hardcoded support for the three supported
  * databases.
+ * <p>
+ * On PostgreSQL and CockroachDB, when {@link Settings#BULK_ID_CTE} is
+ * enabled, the ids of the affected entities are selected by a common
+ * table expression, and every table is updated by a single statement,
+ * instead of creating, populating, and dropping a temporary id table.
  *
  * @author Gavin King
  */
@@ -67,7 +75,17 @@
 
 	private static final ParameterSpecification[] NO_PARAMS = new ParameterSpecification[0];
 
+	private static final String CTE_NAME = "ht_ids";
+
+	/**
+	 * Refers to the common table expression holding the ids, so that
+	 * id subselects may be generated exactly as for an id table.
+	 */
+	private static final IdTableInfo CTE_ID_TABLE = () -> CTE_NAME;
+
 	private final boolean db2;
+	private final boolean cteSupported;
+	private boolean useCte;
 	private final Set<String> createdGlobalTemporaryTables = new HashSet<>();
 	private final List<String> dropTableStatements = new ArrayList<>();
 	private final Parameters parameters;
@@ -85,12 +103,15 @@ public ReactiveBulkIdStrategy(MetadataImplementor metadata) {
 	ReactiveBulkIdStrategy(Dialect dialect) {
 		super( new ReactiveIdTableSupport( dialect ) );
 		db2 = dialect instanceof DB297Dialect;
+		cteSupported = dialect instanceof PostgreSQL9Dialect || dialect instanceof CockroachDB192Dialect;
 		parameters = Parameters.instance( dialect );
 	}
 
 	@Override
 	protected void initialize(MetadataBuildingOptions buildingOptions, SessionFactoryOptions sessionFactoryOptions) {
 		serviceRegistry = buildingOptions.getServiceRegistry();
+		useCte = cteSupported && serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( Settings.BULK_ID_CTE, StandardConverters.BOOLEAN, false );
 	}
 
 	@Override
@@ -133,12 +154,16 @@ public void release(JdbcServices jdbcServices, JdbcConnectionAccess connectionAc
 
 	@Override
 	public UpdateHandler buildUpdateHandler(SessionFactoryImplementor factory, HqlSqlWalker walker) {
-		return new TableBasedUpdateHandlerImpl( factory, walker );
+		return useCte
+				? new CteUpdateHandlerImpl( factory, walker )
+				: new TableBasedUpdateHandlerImpl( factory, walker );
 	}
 
 	@Override
 	public DeleteHandler buildDeleteHandler(SessionFactoryImplementor factory, HqlSqlWalker walker) {
-		return new TableBasedDeleteHandlerImpl( factory, walker );
+		return useCte
+				? new CteDeleteHandlerImpl( factory, walker )
+				: new TableBasedDeleteHandlerImpl( factory, walker );
 	}
 
 	private class TableBasedUpdateHandlerImpl extends AbstractTableBasedBulkIdHandler
@@ -416,6 +441,152 @@ public int execute(SharedSessionContractImplementor session, QueryParameters que
 //		}
 	}
 
+	/**
+	 * Executes a multi-table update or delete as a single statement of
+	 * the form {@code with ht_ids (id) as (select ...), ht_1 as (update
+	 * ...) update ...}, where each table is updated by a data-modifying
+	 * common table expression, except the last, which is updated by the
+	 * main statement, and so determines the updated row count.
+	 */
+	private abstract class AbstractCteBulkIdHandler extends AbstractTableBasedBulkIdHandler
+			implements StatementsWithParameters {
+
+		final Queryable targetedPersister;
+		final String bulkTargetAlias;
+
+		private String[] statements;
+		private ParameterSpecification[][] parameterSpecifications;
+
+		AbstractCteBulkIdHandler(SessionFactoryImplementor factory, HqlSqlWalker walker, FromElement fromElement) {
+			super( factory, walker );
+			targetedPersister = fromElement.getQueryable();
+			bulkTargetAlias = fromElement.getTableAlias();
+		}
+
+		void initStatement(
+				ProcessedWhereClause whereClause,
+				List<String> modifications,
+				List<ParameterSpecification> modificationParameters) {
+			StringBuilder sql = new StringBuilder();
+			if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+				sql.append( "/* bulk " ).append( targetedPersister.getEntityName() ).append( " */ " );
+			}
+			sql.append( "with " ).append( CTE_NAME )
+					.append( " (" ).append( String.join( ", ", targetedPersister.getIdentifierColumnNames() ) )
+					.append( ") as (" ).append( generateIdSelect( bulkTargetAlias, whereClause ).toStatementString() )
+					.append( ")" );
+			int last = modifications.size() - 1;
+			for ( int i = 0; i < last; i++ ) {
+				sql.append( ", " ).append( CTE_NAME ).append( '_' ).append( i )
+						.append( " as (" ).append( modifications.get( i ) ).append( ")" );
+			}
+			sql.append( ' ' ).append( modifications.get( last ) );
+
+			List<ParameterSpecification> parameterList =
+					new ArrayList<>( whereClause.getIdSelectParameterSpecifications() );
+			parameterList.addAll( modificationParameters );
+			statements = new String[] { parameters.process( sql.toString(), parameterList.size() ) };
+			parameterSpecifications = new ParameterSpecification[][] { parameterList.toArray( NO_PARAMS ) };
+		}
+
+		String idRestriction(String[] columnNames) {
+			return "(" + String.join( ", ", columnNames ) + ") in (" + generateIdSubselect( targetedPersister, CTE_ID_TABLE ) + ")";
+		}
+
+		@Override
+		public Queryable getTargetedQueryable() {
+			return targetedPersister;
+		}
+
+		@Override
+		public String[] getSqlStatements() {
+			return statements;
+		}
+
+		@Override
+		public ParameterSpecification[][] getParameterSpecifications() {
+			return parameterSpecifications;
+		}
+
+		@Override
+		public int execute(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private class CteUpdateHandlerImpl extends AbstractCteBulkIdHandler
+			implements MultiTableBulkIdStrategy.UpdateHandler {
+
+		CteUpdateHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker) {
+			super( factory, walker, ( (UpdateStatement) walker.getAST() ).getFromClause().getFromElement() );
+
+			UpdateStatement updateStatement = (UpdateStatement) walker.getAST();
+			List<AssignmentSpecification> assignments = walker.getAssignmentSpecifications();
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+
+			List<String> updates = new ArrayList<>();
+			List<ParameterSpecification> parameterList = new ArrayList<>();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				String tableName = tableNames[table];
+				List<AssignmentSpecification> tableAssignments =
+						assignments.stream().filter( assignment -> assignment.affectsTable( tableName ) )
+								.collect( Collectors.toList() );
+				if ( !tableAssignments.isEmpty() ) {
+					Update update = new Update( walker.getDialect() ).setTableName( tableName );
+					update.setWhere( idRestriction( columnNames[table] ) );
+					for ( AssignmentSpecification assignment: tableAssignments ) {
+						update.appendAssignmentFragment( assignment.getSqlAssignmentFragment() );
+						if ( assignment.getParameters() != null ) {
+							Collections.addAll( parameterList, assignment.getParameters() );
+						}
+					}
+					updates.add( update.toStatementString() );
+				}
+			}
+
+			initStatement( processWhereClause( updateStatement.getWhereClause() ), updates, parameterList );
+		}
+	}
+
+	private class CteDeleteHandlerImpl extends AbstractCteBulkIdHandler
+			implements MultiTableBulkIdStrategy.DeleteHandler {
+
+		CteDeleteHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker) {
+			super( factory, walker, ( (DeleteStatement) walker.getAST() ).getFromClause().getFromElement() );
+
+			DeleteStatement deleteStatement = (DeleteStatement) walker.getAST();
+			List<String> deletes = new ArrayList<>();
+
+			// If many-to-many, delete the FK row in the collection table.
+			for ( Type type : targetedPersister.getPropertyTypes() ) {
+				if ( type.isCollectionType() ) {
+					CollectionType cType = (CollectionType) type;
+					AbstractCollectionPersister cPersister = (AbstractCollectionPersister)
+							factory.getMetamodel().collectionPersister( cType.getRole() );
+					if ( cPersister.isManyToMany() ) {
+						deletes.add( new Delete()
+								.setTableName( cPersister.getTableName() )
+								.setWhere( "(" + String.join( ", ", cPersister.getKeyColumnNames() )
+										+ ") in (" + generateIdSubselect( targetedPersister, cPersister, CTE_ID_TABLE ) + ")" )
+								.toStatementString() );
+					}
+				}
+			}
+
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				deletes.add( new Delete()
+						.setTableName( tableNames[table] )
+						.setWhere( idRestriction( columnNames[table] ) )
+						.toStatementString() );
+			}
+
+			initStatement( processWhereClause( deleteStatement.getWhereClause() ), deletes, Collections.emptyList() );
+		}
+	}
+
 	private void createTempTable(ArrayList<String> statements,
 								 ArrayList<ParameterSpecification[]> parameterSpecifications,
 								 IdTableInfoImpl tableInfo) {
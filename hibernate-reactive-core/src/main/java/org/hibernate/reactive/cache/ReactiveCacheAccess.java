@@ -0,0 +1,68 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A non-blocking counterpart of {@link CachedDomainDataAccess},
+ * used by Hibernate Reactive to read and write the second-level
+ * cache during loading and flushing.
+ *
+ * @see ReactiveCacheAccessFactory
+ */
+public interface ReactiveCacheAccess {
+
+	/**
+	 * Obtain the cached item with the given key, or null if
+	 * the item is not cached.
+	 *
+	 * @see CachedDomainDataAccess#get(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Object> get(SharedSessionContractImplementor session, Object key);
+
+	/**
+	 * Cache an item just loaded from the database.
+	 *
+	 * @see CachedDomainDataAccess#putFromLoad(SharedSessionContractImplementor, Object, Object, Object)
+	 */
+	CompletionStage<Boolean> putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version);
+
+	/**
+	 * Lock the cached item with the given key, before it is
+	 * updated or deleted.
+	 *
+	 * @see CachedDomainDataAccess#lockItem(SharedSessionContractImplementor, Object, Object)
+	 */
+	CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, Object key, Object version);
+
+	/**
+	 * Release a lock obtained by {@link #lockItem}.
+	 *
+	 * @see CachedDomainDataAccess#unlockItem(SharedSessionContractImplementor, Object, SoftLock)
+	 */
+	CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock);
+
+	/**
+	 * Remove the item with the given key, as part of a
+	 * transaction.
+	 *
+	 * @see CachedDomainDataAccess#remove(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Void> remove(SharedSessionContractImplementor session, Object key);
+
+	/**
+	 * Forcibly evict the item with the given key, regardless
+	 * of any transaction.
+	 *
+	 * @see CachedDomainDataAccess#evict(Object)
+	 */
+	CompletionStage<Void> evict(Object key);
+}
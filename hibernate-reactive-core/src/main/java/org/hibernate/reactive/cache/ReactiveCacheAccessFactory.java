@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} which adapts the synchronous cache
+ * regions supplied by the configured
+ * {@link org.hibernate.cache.spi.RegionFactory} for non-blocking
+ * use.
+ * <p>
+ * A cache provider with a natively non-blocking client may supply
+ * its own implementation of this service. The default
+ * implementation either calls the region directly, or, if
+ * {@link org.hibernate.reactive.provider.Settings#CACHE_BLOCKING}
+ * is enabled, runs each operation on the Vert.x worker pool.
+ */
+public interface ReactiveCacheAccessFactory extends Service {
+
+	/**
+	 * Obtain a {@link ReactiveCacheAccess} for the given entity,
+	 * collection, or natural id cache access strategy.
+	 */
+	ReactiveCacheAccess getCacheAccess(CachedDomainDataAccess cacheAccess);
+
+	/**
+	 * Obtain the cached results of a query from the given region,
+	 * or null if the results are not cached. The cached results
+	 * are not checked for staleness.
+	 *
+	 * @see QueryResultsRegion#getFromCache(Object, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Object> getFromQueryCache(QueryResultsRegion region, Object key, SharedSessionContractImplementor session);
+
+	/**
+	 * Obtain the {@link ReactiveQueryResultsCache} used to cache
+	 * the results of cacheable queries, or null if the results
+	 * should be cached in the {@link org.hibernate.cache.spi.QueryResultsCache}
+	 * of the {@code RegionFactory}.
+	 */
+	default ReactiveQueryResultsCache getQueryResultsCache() {
+		return null;
+	}
+
+	/**
+	 * Obtain the {@code ReactiveCacheAccess} for the given cache
+	 * access strategy, using the service registered with the
+	 * session factory.
+	 */
+	static ReactiveCacheAccess cacheAccess(SharedSessionContractImplementor session, CachedDomainDataAccess cacheAccess) {
+		return session.getFactory().getServiceRegistry()
+				.getService( ReactiveCacheAccessFactory.class )
+				.getCacheAccess( cacheAccess );
+	}
+}
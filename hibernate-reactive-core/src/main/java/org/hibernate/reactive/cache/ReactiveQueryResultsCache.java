@@ -0,0 +1,95 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * A non-blocking cache of query results, used in place of the
+ * {@link org.hibernate.cache.spi.QueryResultsCache} of the
+ * configured {@link org.hibernate.cache.spi.RegionFactory}.
+ * <p>
+ * Unlike the {@code QueryResultsCache}, when a cached result refers
+ * to entities which aren't available in the persistence context, the
+ * entities are fetched from the database using a batch query, instead
+ * of the cached result being discarded.
+ * <p>
+ * When a flush modifies one of the query spaces, the query space is
+ * {@linkplain #preInvalidate pre-invalidated}, and no result which
+ * depends on it is cached or read from the cache until the query
+ * space is {@linkplain #invalidate invalidated} after the transaction
+ * completes. A cached result is then stale.
+ *
+ * @see ReactiveCacheAccessFactory#getQueryResultsCache()
+ */
+public interface ReactiveQueryResultsCache {
+
+	/**
+	 * The name of the region used when a query doesn't specify one.
+	 */
+	String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+
+	/**
+	 * A timestamp to be obtained just before a query is executed,
+	 * and later passed to {@link #put}. If any of the query spaces
+	 * is invalidated after this timestamp, the results of the query
+	 * are considered stale.
+	 */
+	long getTimestamp();
+
+	/**
+	 * Obtain the cached results of the query with the given key,
+	 * resolving any entities they refer to, or null if the results
+	 * aren't cached, or are stale.
+	 */
+	CompletionStage<List<Object>> get(
+			String regionName,
+			QueryKey key,
+			Set<Serializable> querySpaces,
+			Type[] returnTypes,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Cache the results of the query with the given key, unless one
+	 * of its query spaces is pre-invalidated, or was invalidated
+	 * after the given timestamp.
+	 *
+	 * @param timestamp a timestamp obtained from {@link #getTimestamp()}
+	 * before the query was executed
+	 *
+	 * @return true if the results were cached
+	 */
+	CompletionStage<Boolean> put(
+			String regionName,
+			QueryKey key,
+			List<?> results,
+			Set<Serializable> querySpaces,
+			Type[] returnTypes,
+			long timestamp,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Mark the given query spaces as modified by a transaction which
+	 * hasn't completed yet, so that no result which depends on them
+	 * is cached or read from the cache until they're
+	 * {@linkplain #invalidate invalidated}.
+	 */
+	void preInvalidate(Serializable[] querySpaces);
+
+	/**
+	 * Mark every cached result which depends on one of the given
+	 * query spaces as stale, and end the pre-invalidation of the
+	 * query spaces.
+	 */
+	void invalidate(Serializable[] querySpaces);
+}
@@ -0,0 +1,68 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+
+/**
+ * Adapts a synchronous {@link CachedDomainDataAccess} to the
+ * {@link ReactiveCacheAccess} SPI, running each operation
+ * using the given {@link DefaultReactiveCacheAccessFactory}.
+ */
+final class CacheAccessAdaptor implements ReactiveCacheAccess {
+
+	private final CachedDomainDataAccess delegate;
+	private final DefaultReactiveCacheAccessFactory factory;
+
+	CacheAccessAdaptor(CachedDomainDataAccess delegate, DefaultReactiveCacheAccessFactory factory) {
+		this.delegate = delegate;
+		this.factory = factory;
+	}
+
+	@Override
+	public CompletionStage<Object> get(SharedSessionContractImplementor session, Object key) {
+		return factory.run( () -> delegate.get( session, key ) );
+	}
+
+	@Override
+	public CompletionStage<Boolean> putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return factory.run( () -> delegate.putFromLoad( session, key, value, version ) );
+	}
+
+	@Override
+	public CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		return factory.run( () -> delegate.lockItem( session, key, version ) );
+	}
+
+	@Override
+	public CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		return factory.run( () -> {
+			delegate.unlockItem( session, key, lock );
+			return null;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Void> remove(SharedSessionContractImplementor session, Object key) {
+		return factory.run( () -> {
+			delegate.remove( session, key );
+			return null;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Void> evict(Object key) {
+		return factory.run( () -> {
+			delegate.evict( key );
+			return null;
+		} );
+	}
+}
@@ -0,0 +1,99 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.ReactiveCacheAccessFactory;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * The default implementation of {@link ReactiveCacheAccessFactory}.
+ * <p>
+ * By default, operations are executed directly by the calling thread,
+ * which is appropriate for in-memory cache providers. If the cache is
+ * {@linkplain org.hibernate.reactive.provider.Settings#CACHE_BLOCKING
+ * blocking}, operations called from a Vert.x context are run on the
+ * Vert.x worker pool instead, and the result is delivered back to the
+ * calling context.
+ */
+public class DefaultReactiveCacheAccessFactory implements ReactiveCacheAccessFactory {
+
+	private final boolean blocking;
+	private final ReactiveQueryResultsCache queryResultsCache;
+
+	/**
+	 * @param blocking if cache operations should be run on the worker pool
+	 * @param queryCacheMaxSize the maximum number of query results in each
+	 * region of the {@link InProcessQueryResultsCache}, or zero if query
+	 * results should be cached by the {@code RegionFactory}
+	 */
+	public DefaultReactiveCacheAccessFactory(boolean blocking, int queryCacheMaxSize) {
+		this.blocking = blocking;
+		this.queryResultsCache = queryCacheMaxSize > 0
+				? new InProcessQueryResultsCache( queryCacheMaxSize )
+				: null;
+	}
+
+	@Override
+	public ReactiveCacheAccess getCacheAccess(CachedDomainDataAccess cacheAccess) {
+		return new CacheAccessAdaptor( cacheAccess, this );
+	}
+
+	@Override
+	public CompletionStage<Object> getFromQueryCache(QueryResultsRegion region, Object key, SharedSessionContractImplementor session) {
+		return run( () -> region.getFromCache( key, session ) );
+	}
+
+	@Override
+	public ReactiveQueryResultsCache getQueryResultsCache() {
+		return queryResultsCache;
+	}
+
+	/**
+	 * Run the given cache operation, either directly, or on the worker
+	 * pool if the cache is blocking and we're on a Vert.x context.
+	 */
+	<T> CompletionStage<T> run(Supplier<T> operation) {
+		final Context context = blocking ? Vertx.currentContext() : null;
+		if ( context == null ) {
+			try {
+				return completedFuture( operation.get() );
+			}
+			catch (RuntimeException e) {
+				return failedFuture( e );
+			}
+		}
+		else {
+			final CompletableFuture<T> result = new CompletableFuture<>();
+			context.<T>executeBlocking(
+					promise -> promise.complete( operation.get() ),
+					false,
+					ar -> {
+						if ( ar.succeeded() ) {
+							result.complete( ar.result() );
+						}
+						else {
+							result.completeExceptionally( ar.cause() );
+						}
+					}
+			);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.cache.ReactiveCacheAccessFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator}
+ * for the default {@link ReactiveCacheAccessFactory}.
+ */
+public class DefaultReactiveCacheAccessFactoryInitiator implements StandardServiceInitiator<ReactiveCacheAccessFactory> {
+
+	public static final DefaultReactiveCacheAccessFactoryInitiator INSTANCE = new DefaultReactiveCacheAccessFactoryInitiator();
+
+	@Override
+	public ReactiveCacheAccessFactory initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new DefaultReactiveCacheAccessFactory(
+				ConfigurationHelper.getBoolean( Settings.CACHE_BLOCKING, configurationValues, false ),
+				ConfigurationHelper.getInt( Settings.QUERY_CACHE_MAX_SIZE, configurationValues, 0 )
+		);
+	}
+
+	@Override
+	public Class<ReactiveCacheAccessFactory> getServiceInitiated() {
+		return ReactiveCacheAccessFactory.class;
+	}
+}
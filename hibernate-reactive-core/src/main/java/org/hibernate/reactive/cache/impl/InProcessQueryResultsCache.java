@@ -0,0 +1,275 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.trueFuture;
+
+/**
+ * A {@link ReactiveQueryResultsCache} which holds the results of
+ * queries in memory, with at most a given number of results in each
+ * region, evicting the least recently used results first.
+ * <p>
+ * Entities are cached by id. When cached results are read, entities
+ * missing from the persistence context are fetched using one batch
+ * query per entity type. Results of queries which return a collection,
+ * an {@code any} association, or an association which doesn't refer
+ * to a primary key are never cached.
+ * <p>
+ * Like the {@link org.hibernate.cache.spi.TimestampsCache}, a query
+ * space stays pre-invalidated until it's invalidated, or until the
+ * pre-invalidation times out, in case the transaction which modified
+ * the query space never completes.
+ */
+public class InProcessQueryResultsCache implements ReactiveQueryResultsCache {
+
+	/**
+	 * The number of milliseconds after which a pre-invalidation times
+	 * out, the same as the default timeout of a
+	 * {@link org.hibernate.cache.spi.RegionFactory}.
+	 */
+	private static final long PRE_INVALIDATION_TIMEOUT = 60_000;
+
+	private final int maxSize;
+	private final AtomicLong clock = new AtomicLong();
+	private final ConcurrentMap<String, Map<QueryKey, CachedResults>> regions = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Serializable, Long> invalidationTimestamps = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Serializable, Long> preInvalidationTimeouts = new ConcurrentHashMap<>();
+
+	public InProcessQueryResultsCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public long getTimestamp() {
+		return clock.get();
+	}
+
+	@Override
+	public void preInvalidate(Serializable[] querySpaces) {
+		final Long timeout = System.currentTimeMillis() + PRE_INVALIDATION_TIMEOUT;
+		for ( Serializable space : querySpaces ) {
+			preInvalidationTimeouts.merge( space, timeout, Math::max );
+		}
+	}
+
+	@Override
+	public void invalidate(Serializable[] querySpaces) {
+		if ( querySpaces.length > 0 ) {
+			final Long timestamp = clock.incrementAndGet();
+			for ( Serializable space : querySpaces ) {
+				invalidationTimestamps.put( space, timestamp );
+				preInvalidationTimeouts.remove( space );
+			}
+		}
+	}
+
+	@Override
+	public CompletionStage<Boolean> put(
+			String regionName,
+			QueryKey key,
+			List<?> results,
+			Set<Serializable> querySpaces,
+			Type[] returnTypes,
+			long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( isStale( timestamp, querySpaces ) ) {
+			return falseFuture();
+		}
+		for ( Type type : returnTypes ) {
+			if ( !isCacheable( type ) ) {
+				return falseFuture();
+			}
+		}
+
+		final List<Serializable> rows = new ArrayList<>( results.size() );
+		for ( Object result : results ) {
+			if ( returnTypes.length == 1 ) {
+				rows.add( returnTypes[0].disassemble( result, session, null ) );
+			}
+			else {
+				final Object[] row = (Object[]) result;
+				final Serializable[] disassembled = new Serializable[row.length];
+				for ( int i = 0; i < row.length; i++ ) {
+					disassembled[i] = returnTypes[i].disassemble( row[i], session, null );
+				}
+				rows.add( disassembled );
+			}
+		}
+		region( regionName ).put( key, new CachedResults( timestamp, rows ) );
+		return trueFuture();
+	}
+
+	@Override
+	public CompletionStage<List<Object>> get(
+			String regionName,
+			QueryKey key,
+			Set<Serializable> querySpaces,
+			Type[] returnTypes,
+			SharedSessionContractImplementor session) {
+		final Map<QueryKey, CachedResults> region = region( regionName );
+		final CachedResults cached = region.get( key );
+		if ( cached == null ) {
+			return nullFuture();
+		}
+		if ( isStale( cached.timestamp, querySpaces ) ) {
+			region.remove( key );
+			return nullFuture();
+		}
+
+		// first assemble the ids of the entities, and fetch
+		// any entities which aren't already in the session
+		final Map<EntityPersister, Set<Serializable>> idsToFetch = new LinkedHashMap<>();
+		final Object[][] rows = new Object[cached.rows.size()][];
+		for ( int i = 0; i < rows.length; i++ ) {
+			final Serializable[] row = row( cached.rows.get( i ), returnTypes.length );
+			rows[i] = new Object[row.length];
+			for ( int j = 0; j < row.length; j++ ) {
+				if ( returnTypes[j].isEntityType() ) {
+					final EntityType entityType = (EntityType) returnTypes[j];
+					final Serializable id = (Serializable) entityType
+							.getIdentifierOrUniqueKeyType( session.getFactory() )
+							.assemble( row[j], session, null );
+					rows[i][j] = id;
+					if ( id != null ) {
+						final EntityPersister persister = session.getFactory().getMetamodel()
+								.entityPersister( entityType.getAssociatedEntityName() );
+						if ( entity( session, persister, id ) == null ) {
+							idsToFetch.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+						}
+					}
+				}
+				else {
+					rows[i][j] = returnTypes[j].assemble( row[j], session, null );
+				}
+			}
+		}
+
+		return loop( idsToFetch.entrySet(), entry -> ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE.batchLoad(
+						(OuterJoinLoadable) entry.getKey(),
+						entry.getValue().toArray( new Serializable[0] ),
+						new LockOptions( LockMode.NONE ),
+						session
+				) )
+				.thenApply( v -> {
+					// then replace the ids with the entities
+					final List<Object> results = new ArrayList<>( rows.length );
+					for ( Object[] row : rows ) {
+						for ( int j = 0; j < row.length; j++ ) {
+							if ( returnTypes[j].isEntityType() && row[j] != null ) {
+								final EntityPersister persister = session.getFactory().getMetamodel()
+										.entityPersister( ( (EntityType) returnTypes[j] ).getAssociatedEntityName() );
+								final Object entity = entity( session, persister, (Serializable) row[j] );
+								if ( entity == null ) {
+									// the entity was deleted, so the results are stale
+									region.remove( key );
+									return null;
+								}
+								row[j] = session.getPersistenceContextInternal().proxyFor( entity );
+							}
+						}
+						results.add( returnTypes.length == 1 ? row[0] : row );
+					}
+					return results;
+				} );
+	}
+
+	/**
+	 * Is one of the given query spaces pre-invalidated, or was it
+	 * invalidated after the given timestamp?
+	 */
+	private boolean isStale(long timestamp, Set<Serializable> querySpaces) {
+		final long now = System.currentTimeMillis();
+		for ( Serializable space : querySpaces ) {
+			final Long invalidated = invalidationTimestamps.get( space );
+			if ( invalidated != null && invalidated > timestamp ) {
+				return true;
+			}
+			final Long timeout = preInvalidationTimeouts.get( space );
+			if ( timeout != null && timeout > now ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Map<QueryKey, CachedResults> region(String regionName) {
+		return regions.computeIfAbsent(
+				regionName == null ? DEFAULT_QUERY_RESULTS_REGION : regionName,
+				name -> new BoundedConcurrentHashMap<>( maxSize, 16, BoundedConcurrentHashMap.Eviction.LRU )
+		);
+	}
+
+	private static Serializable[] row(Serializable cached, int columns) {
+		return columns == 1 ? new Serializable[] { cached } : (Serializable[]) cached;
+	}
+
+	private static Object entity(SharedSessionContractImplementor session, EntityPersister persister, Serializable id) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityKey entityKey = session.generateEntityKey( id, persister );
+		return persistenceContext.getEntity( entityKey );
+	}
+
+	/**
+	 * Can values of the given type be cached without the need to
+	 * load anything other than an entity by id when they are read?
+	 */
+	private static boolean isCacheable(Type type) {
+		if ( type.isEntityType() ) {
+			return ( (EntityType) type ).isReferenceToPrimaryKey();
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( subtype.isAssociationType() || !isCacheable( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return !type.isAssociationType();
+		}
+	}
+
+	private static final class CachedResults {
+		final long timestamp;
+		final List<Serializable> rows;
+
+		CachedResults(long timestamp, List<Serializable> rows) {
+			this.timestamp = timestamp;
+			this.rows = rows;
+		}
+	}
+}
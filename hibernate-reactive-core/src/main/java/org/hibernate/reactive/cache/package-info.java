@@ -0,0 +1,9 @@
+/**
+ * An SPI for non-blocking access to the second-level cache and
+ * query cache, allowing cache providers which perform I/O to be
+ * used without blocking the event loop.
+ *
+ * @see org.hibernate.reactive.cache.ReactiveCacheAccess
+ * @see org.hibernate.reactive.cache.ReactiveCacheAccessFactory
+ */
+package org.hibernate.reactive.cache;
@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of results for keyset pagination, that is, a page which
+ * begins immediately after, or ends immediately before, a given key.
+ * The query results are ordered by the key, which is made up of one
+ * or more HQL path expressions, and whose last element must uniquely
+ * identify a result, for example, the entity id. For example:
+ * <pre>
+ * {@code KeyedPage.first(20, "book.title", "book.id")}
+ * </pre>
+ * Unlike {@code setFirstResult()}, the database never scans the rows
+ * belonging to earlier pages. The elements of the key must never be
+ * null. An element of the key may navigate a to-one association, for
+ * example, {@code book.author.name}, but the association must then be
+ * fetched by the query.
+ *
+ * @see KeyedResultList
+ */
+@Incubating
+public final class KeyedPage {
+    private final List<String> keys;
+    private final int size;
+    private final List<Object> keyValues;
+    private final boolean backward;
+
+    private KeyedPage(List<String> keys, int size, List<Object> keyValues, boolean backward) {
+        if ( size <= 0 ) {
+            throw new IllegalArgumentException( "page size must be positive" );
+        }
+        if ( keyValues != null && keyValues.size() != keys.size() ) {
+            throw new IllegalArgumentException(
+                    "expected " + keys.size() + " key values but got " + keyValues.size()
+            );
+        }
+        this.keys = keys;
+        this.size = size;
+        this.keyValues = keyValues;
+        this.backward = backward;
+    }
+
+    /**
+     * The first page of results.
+     *
+     * @param size the maximum number of results on each page
+     * @param keys the HQL path expressions which make up the key
+     */
+    public static KeyedPage first(int size, String... keys) {
+        if ( keys.length == 0 ) {
+            throw new IllegalArgumentException( "at least one key is required" );
+        }
+        return new KeyedPage( Collections.unmodifiableList( Arrays.asList( keys ) ), size, null, false );
+    }
+
+    /**
+     * The page of results immediately following the given key.
+     */
+    public KeyedPage after(Object... keyValues) {
+        return new KeyedPage( keys, size, Arrays.asList( keyValues ), false );
+    }
+
+    /**
+     * The page of results immediately preceding the given key.
+     */
+    public KeyedPage before(Object... keyValues) {
+        return new KeyedPage( keys, size, Arrays.asList( keyValues ), true );
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the values of the key, or null for the first page
+     */
+    public List<Object> getKeyValues() {
+        return keyValues;
+    }
+
+    /**
+     * @return true if this page ends immediately before its key,
+     *         false if it begins immediately after its key
+     */
+    public boolean isBackward() {
+        return backward;
+    }
+
+    public boolean isFirst() {
+        return keyValues == null;
+    }
+}
@@ -0,0 +1,47 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import java.util.List;
+
+/**
+ * A page of query results obtained by keyset pagination, along with
+ * the {@link KeyedPage}s which immediately follow and precede it.
+ *
+ * @param <R> the type of the query results
+ */
+@Incubating
+public final class KeyedResultList<R> {
+    private final List<R> resultList;
+    private final KeyedPage nextPage;
+    private final KeyedPage previousPage;
+
+    public KeyedResultList(List<R> resultList, KeyedPage nextPage, KeyedPage previousPage) {
+        this.resultList = resultList;
+        this.nextPage = nextPage;
+        this.previousPage = previousPage;
+    }
+
+    public List<R> getResultList() {
+        return resultList;
+    }
+
+    /**
+     * @return the following page, or null if there are no more results
+     */
+    public KeyedPage getNextPage() {
+        return nextPage;
+    }
+
+    /**
+     * @return the preceding page, or null if this is the first page
+     */
+    public KeyedPage getPreviousPage() {
+        return previousPage;
+    }
+}
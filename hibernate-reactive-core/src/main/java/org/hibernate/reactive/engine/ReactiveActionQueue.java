@@ -18,9 +18,13 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveCacheAccessFactory;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
 import org.hibernate.reactive.engine.impl.*;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.*;
@@ -29,6 +33,7 @@
 import java.util.*;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntFunction;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -654,20 +659,25 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
-		return CompletionStages.loop( 0, list.size(),
-				index -> {
-					final E e = list.get( index );
-					return e.reactiveExecute()
-							.whenComplete( (v2, x1) -> {
-								if ( e.getBeforeTransactionCompletionProcess() != null ) {
-									beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
-								}
-								if ( e.getAfterTransactionCompletionProcess() != null ) {
-									afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
-								}
-							} );
-				}
-		)
+		final IntFunction<CompletionStage<?>> execute = index -> {
+			final E e = list.get( index );
+			return e.reactiveExecute()
+					.whenComplete( (v2, x1) -> {
+						if ( e.getBeforeTransactionCompletionProcess() != null ) {
+							beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
+						}
+						if ( e.getAfterTransactionCompletionProcess() != null ) {
+							afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
+						}
+					} );
+		};
+		final CompletionStage<Void> executed = canPipeline( list )
+				// prepare the actions one at a time, in order, and then
+				// send the statements of every action back to back
+				? CompletionStages.loop( 0, list.size(), index -> list.get( index ).reactivePrepare() )
+						.thenCompose( v -> CompletionStages.pipeline( 0, list.size(), execute ) )
+				: CompletionStages.loop( 0, list.size(), execute );
+		return executed
 		.whenComplete( (v, x) -> {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
@@ -681,6 +691,42 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		.thenCompose( v -> session.getReactiveConnection().executeBatch() );
 	}
 
+	/**
+	 * The actions in the given list may be started without waiting for
+	 * the previous action to complete if the connection is pipelined,
+	 * and if, once {@linkplain ReactiveExecutable#reactivePrepare() prepared},
+	 * every action sends its statements without waiting for anything
+	 * else. That's the case for inserts, updates, and deletes of entities
+	 * mapped to a single table. An identity insert is never pipelined,
+	 * since its generated id might be needed by the actions which follow
+	 * it, and neither are collection actions, which wait for the result
+	 * of each statement before sending the next one.
+	 */
+	private boolean canPipeline(ExecutableList<?> list) {
+		if ( list.size() < 2 || !session.getReactiveConnection().isPipelined() ) {
+			return false;
+		}
+		for ( Object executable : list ) {
+			final EntityPersister persister;
+			if ( executable instanceof ReactiveEntityRegularInsertAction ) {
+				persister = ( (ReactiveEntityRegularInsertAction) executable ).getPersister();
+			}
+			else if ( executable instanceof ReactiveEntityUpdateAction ) {
+				persister = ( (ReactiveEntityUpdateAction) executable ).getPersister();
+			}
+			else if ( executable instanceof ReactiveEntityDeleteAction ) {
+				persister = ( (ReactiveEntityDeleteAction) executable ).getPersister();
+			}
+			else {
+				return false;
+			}
+			if ( ( (ReactiveAbstractEntityPersister) persister ).delegate().getTableSpan() > 1 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -701,6 +747,12 @@ private void invalidateSpaces(Serializable[] spaces) {
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
 			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, session.getSharedContract() );
+			final ReactiveQueryResultsCache reactiveQueryCache = session.getFactory().getServiceRegistry()
+					.getService( ReactiveCacheAccessFactory.class )
+					.getQueryResultsCache();
+			if ( reactiveQueryCache != null ) {
+				reactiveQueryCache.preInvalidate( spaces );
+			}
 		}
 	}
 
@@ -1007,10 +1059,17 @@ public CompletionStage<Void> afterTransactionCompletion(boolean success) {
 			}
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+				final Serializable[] querySpaces = querySpacesToInvalidate.toArray( new Serializable[0] );
 				session.getFactory().getCache().getTimestampsCache().invalidate(
-						querySpacesToInvalidate.toArray(new Serializable[0]),
+						querySpaces,
 						session.getSharedContract()
 				);
+				final ReactiveQueryResultsCache reactiveQueryCache = session.getFactory().getServiceRegistry()
+						.getService( ReactiveCacheAccessFactory.class )
+						.getQueryResultsCache();
+				if ( reactiveQueryCache != null ) {
+					reactiveQueryCache.invalidate( querySpaces );
+				}
 			}
 			querySpacesToInvalidate.clear();
 
@@ -10,6 +10,8 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
 /**
  * An operation that is scheduled for later non-blocking
  * execution in an {@link ReactiveActionQueue}. Reactive counterpart
@@ -18,4 +20,19 @@
 @SuppressWarnings("rawtypes")
 public interface ReactiveExecutable extends Executable, Comparable, Serializable {
 	CompletionStage<Void> reactiveExecute();
+
+	/**
+	 * Perform any non-blocking work which must happen before this
+	 * action sends its first statement to the database. Once the
+	 * returned stage completes, {@link #reactiveExecute()} sends
+	 * the statements of the action without waiting for anything
+	 * else, which lets a pipelined flush prepare its actions one
+	 * at a time, in order, and then send all their statements back
+	 * to back.
+	 * <p>
+	 * May be called more than once, but the work is only done once.
+	 */
+	default CompletionStage<Void> reactivePrepare() {
+		return voidFuture();
+	}
 }
@@ -6,22 +6,31 @@
 package org.hibernate.reactive.engine.impl;
 
 import org.hibernate.EntityMode;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.*;
@@ -305,12 +314,136 @@ public static CompletionStage<Boolean> isTransient(String entityName, Object ent
 		}
 
 		// hit the database, after checking the session cache for a snapshot
+		// or for the result of resolveTransientReferences()
 		ReactivePersistenceContextAdapter persistenceContext =
 				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
 		Serializable id = persister.getIdentifier(entity, session);
+		Boolean exists = id == null ? null
+				: persistenceContext.getCachedRowExistence( session.generateEntityKey( id, persister ) );
+		if ( exists != null ) {
+			return completedFuture( !exists );
+		}
 		return persistenceContext.reactiveGetDatabaseSnapshot( id, persister).thenApply(Objects::isNull);
 	}
 
+	/**
+	 * Find every unmanaged entity referenced by a non-cascaded association
+	 * of the given entities, or of the entities reachable from them via
+	 * associations which cascade the given action, whose transient state
+	 * would otherwise be determined by selecting its database snapshot,
+	 * and determine whether each one has a row using one query per batch
+	 * of identifiers, instead of one query per entity. Subsequent calls to
+	 * {@link #isTransient} are answered from the persistence context.
+	 *
+	 * @param entities The entities about to be persisted or flushed
+	 * @param action The action being cascaded
+	 * @param session The session
+	 */
+	public static CompletionStage<Void> resolveTransientReferences(
+			Object[] entities,
+			org.hibernate.engine.spi.CascadingAction action,
+			SessionImplementor session) {
+		final Map<EntityPersister, Set<Serializable>> idsByPersister = new LinkedHashMap<>();
+		final IdentitySet visited = new IdentitySet();
+		for ( Object entity : entities ) {
+			collectUnresolvedReferences( entity, action, session, visited, idsByPersister );
+		}
+		if ( idsByPersister.isEmpty() ) {
+			return voidFuture();
+		}
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		return loop(
+				idsByPersister.entrySet(),
+				entry -> entry.getValue().size() > 1,
+				entry -> persistenceContext.reactiveResolveRowExistence(
+						entry.getValue().toArray( new Serializable[0] ),
+						entry.getKey()
+				)
+		);
+	}
+
+	private static void collectUnresolvedReferences(
+			Object entity,
+			org.hibernate.engine.spi.CascadingAction action,
+			SessionImplementor session,
+			IdentitySet visited,
+			Map<EntityPersister, Set<Serializable>> idsByPersister) {
+		if ( entity == null || entity instanceof HibernateProxy || !visited.add( entity ) ) {
+			return;
+		}
+		final EntityPersister persister;
+		try {
+			persister = session.getEntityPersister( null, entity );
+		}
+		catch (HibernateException he) {
+			// not an entity, which will be reported by the operation itself
+			return;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				continue;
+			}
+			final boolean cascaded = cascadeStyles[i].doCascade( action );
+			if ( types[i].isEntityType() ) {
+				if ( !isUnmanagedInstance( value, session ) ) {
+					continue;
+				}
+				if ( cascaded ) {
+					collectUnresolvedReferences( value, action, session, visited, idsByPersister );
+				}
+				else {
+					final String entityName = ( (EntityType) types[i] ).getAssociatedEntityName( session.getFactory() );
+					collectUnresolvedReference( entityName, value, session, idsByPersister );
+				}
+			}
+			else if ( cascaded && types[i].isCollectionType()
+					&& ( (CollectionType) types[i] ).getElementType( session.getFactory() ).isEntityType()
+					&& Hibernate.isInitialized( value ) ) {
+				final Iterator<?> elements = ( (CollectionType) types[i] ).getElementsIterator( value, session );
+				while ( elements.hasNext() ) {
+					final Object element = elements.next();
+					if ( isUnmanagedInstance( element, session ) ) {
+						collectUnresolvedReferences( element, action, session, visited, idsByPersister );
+					}
+				}
+			}
+		}
+	}
+
+	private static void collectUnresolvedReference(
+			String entityName,
+			Object entity,
+			SessionImplementor session,
+			Map<EntityPersister, Set<Serializable>> idsByPersister) {
+		if ( session.getInterceptor().isTransient( entity ) != null ) {
+			return;
+		}
+		final EntityPersister persister = session.getEntityPersister( entityName, entity );
+		if ( persister.isTransient( entity, session ) != null
+				|| persister.getIdentifierType().getColumnSpan( session.getFactory() ) != 1 ) {
+			return;
+		}
+		final Serializable id = persister.getIdentifier( entity, session );
+		if ( id != null ) {
+			final ReactivePersistenceContextAdapter persistenceContext =
+					(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+			if ( persistenceContext.getCachedRowExistence( session.generateEntityKey( id, persister ) ) == null ) {
+				idsByPersister.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+			}
+		}
+	}
+
+	private static boolean isUnmanagedInstance(Object value, SessionImplementor session) {
+		return value != null
+				&& !( value instanceof HibernateProxy )
+				&& session.getPersistenceContextInternal().getEntry( value ) == null;
+	}
+
 	/**
 	 * Return the identifier of the persistent or transient object, or throw
 	 * an exception if the instance is "unsaved"
@@ -22,6 +22,7 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.cache.ReactiveCacheAccessFactory.cacheAccess;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -45,38 +46,60 @@ public void execute() throws HibernateException {
 		throw new NotYetImplementedException();
 	}
 
+	private transient CompletionStage<Void> lockStep;
+
+	/**
+	 * Lock the cached item, if the entity is cached.
+	 */
 	@Override
-	public CompletionStage<Void> reactiveExecute() throws HibernateException {
-		final Serializable id = getId();
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
+	public CompletionStage<Void> reactivePrepare() {
+		if ( lockStep == null ) {
+			final EntityPersister persister = getPersister();
+			if ( persister.canWriteToCache() ) {
+				final SharedSessionContractImplementor session = getSession();
+				final EntityDataAccess cache = persister.getCacheAccessStrategy();
+				lockStep = cacheAccess( session, cache )
+						.lockItem( session, cacheKey(), version() )
+						.thenAccept( this::setLock );
+			}
+			else {
+				lockStep = voidFuture();
+			}
+		}
+		return lockStep;
+	}
 
-		final boolean veto = preDelete();
+	private Object cacheKey() {
+		final SharedSessionContractImplementor session = getSession();
+		return getPersister().getCacheAccessStrategy()
+				.generateCacheKey( getId(), getPersister(), session.getFactory(), session.getTenantIdentifier() );
+	}
 
-		Object version = getVersion();
-		if ( persister.isVersionPropertyGenerated() ) {
+	private Object version() {
+		if ( getPersister().isVersionPropertyGenerated() ) {
 			// we need to grab the version value from the entity, otherwise
 			// we have issues with generated-version entities that may have
 			// multiple actions queued during the same flush
-			version = persister.getVersion( instance );
+			return getPersister().getVersion( getInstance() );
 		}
+		return getVersion();
+	}
 
-		final Object ck;
-		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
-			setLock( cache.lockItem( session, ck, version ) );
-		}
-		else {
-			ck = null;
-		}
+	@Override
+	public CompletionStage<Void> reactiveExecute() throws HibernateException {
+		final Serializable id = getId();
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
 
-		CompletionStage<Void> deleteStep = !isCascadeDeleteEnabled() && !veto
-				? ((ReactiveEntityPersister) persister).deleteReactive( id, version, instance, session )
-				: voidFuture();
+		final boolean veto = preDelete();
 
-		return deleteStep.thenAccept( v -> {
+		final Object finalVersion = version();
+		final Object ck = persister.canWriteToCache() ? cacheKey() : null;
+		return reactivePrepare().thenCompose( v -> !isCascadeDeleteEnabled() && !veto
+				? ((ReactiveEntityPersister) persister).deleteReactive( id, finalVersion, instance, session )
+				: voidFuture()
+		).thenCompose( v -> {
 			//postDelete:
 			// After actually deleting a row, record the fact that the instance no longer
 			// exists on the database (needed for identity-column key generation), and
@@ -91,10 +114,11 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			persistenceContext.removeEntity( entry.getEntityKey() );
 			persistenceContext.removeProxy( entry.getEntityKey() );
 
-			if ( persister.canWriteToCache() ) {
-				persister.getCacheAccessStrategy().remove( session, ck );
-			}
-
+			return persister.canWriteToCache()
+					? cacheAccess( session, persister.getCacheAccessStrategy() ).remove( session, ck )
+					: voidFuture();
+		} ).thenAccept( v -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 			persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference(
 					persister,
 					id,
@@ -68,6 +68,11 @@ default CompletionStage<Void> reactiveNullifyTransientReferencesIfNotAlready() {
 		}
 	}
 
+	@Override
+	default CompletionStage<Void> reactivePrepare() {
+		return reactiveNullifyTransientReferencesIfNotAlready();
+	}
+
 	/**
 	 * Make the entity "managed" by the persistence context.
 	 *
@@ -21,6 +21,7 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.cache.ReactiveCacheAccessFactory.cacheAccess;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
@@ -60,6 +61,49 @@ public ReactiveEntityUpdateAction(
 				instance, rowId, persister, session );
 	}
 
+	private transient CompletionStage<Void> lockStep;
+
+	/**
+	 * Lock the cached item, if the entity is cached.
+	 */
+	@Override
+	public CompletionStage<Void> reactivePrepare() {
+		if ( lockStep == null ) {
+			final EntityPersister persister = getPersister();
+			if ( persister.canWriteToCache() ) {
+				final SharedSessionContractImplementor session = getSession();
+				final EntityDataAccess cache = persister.getCacheAccessStrategy();
+				lockStep = cacheAccess( session, cache )
+						.lockItem( session, cacheKey(), previousVersion() )
+						.thenAccept( this::setLock );
+			}
+			else {
+				lockStep = voidFuture();
+			}
+		}
+		return lockStep;
+	}
+
+	private Object cacheKey() {
+		final SharedSessionContractImplementor session = getSession();
+		return getPersister().getCacheAccessStrategy().generateCacheKey(
+				getId(),
+				getPersister(),
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+	}
+
+	private Object previousVersion() {
+		if ( getPersister().isVersionPropertyGenerated() ) {
+			// we need to grab the version value from the entity, otherwise
+			// we have issues with generated-version entities that may have
+			// multiple actions queued during the same flush
+			return getPersister().getVersion( getInstance() );
+		}
+		return getPreviousVersion();
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveExecute() throws HibernateException {
 		final Serializable id = getId();
@@ -70,31 +114,11 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 		final boolean veto = preUpdate();
 
 		final SessionFactoryImplementor factory = session.getFactory();
-		Object previousVersion = getPreviousVersion();
-		if ( persister.isVersionPropertyGenerated() ) {
-			// we need to grab the version value from the entity, otherwise
-			// we have issues with generated-version entities that may have
-			// multiple actions queued during the same flush
-			previousVersion = persister.getVersion( instance );
-		}
+		final Object finalPreviousVersion = previousVersion();
+		final Object ck = persister.canWriteToCache() ? cacheKey() : null;
 
-		final Object ck;
-		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			ck = cache.generateCacheKey(
-					id,
-					persister,
-					factory,
-					session.getTenantIdentifier()
-			);
-			setLock( cache.lockItem( session, ck, previousVersion ) );
-		}
-		else {
-			ck = null;
-		}
-
-		ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) persister;
-		CompletionStage<Void> update = veto
+		final ReactiveEntityPersister reactivePersister = (ReactiveEntityPersister) persister;
+		return reactivePrepare().thenCompose( v -> veto
 				? voidFuture()
 				: reactivePersister.updateReactive(
 						id,
@@ -102,13 +126,12 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 						getDirtyFields(),
 						hasDirtyCollection(),
 						getPreviousState(),
-						previousVersion,
+						finalPreviousVersion,
 						instance,
 						getRowId(),
 						session
-				);
-
-		return update.thenApply( res -> {
+				) )
+			.thenApply( res -> {
 				final EntityEntry entry = session.getPersistenceContextInternal().getEntry( instance );
 				if ( entry == null ) {
 					throw new AssertionFailure( "possible non-threadsafe access to session" );
@@ -135,29 +158,34 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 				}
 				return completedFuture( entry );
 			} )
+			.thenCompose( entry -> {
+				if ( persister.canWriteToCache()
+						&& ( persister.isCacheInvalidationRequired() || entry.getStatus() != Status.MANAGED ) ) {
+					return cacheAccess( session, persister.getCacheAccessStrategy() ).remove( session, ck )
+							.thenApply( v -> entry );
+				}
+				return completedFuture( entry );
+			} )
 			.thenAccept( entry -> {
 				final StatisticsImplementor statistics = factory.getStatistics();
-				if ( persister.canWriteToCache() ) {
-					if ( persister.isCacheInvalidationRequired() || entry.getStatus() != Status.MANAGED ) {
-						persister.getCacheAccessStrategy().remove( session, ck );
-					}
-					else if ( session.getCacheMode().isPutEnabled() ) {
-						//TODO: inefficient if that cache is just going to ignore the updated state!
-						final CacheEntry ce = persister.buildCacheEntry(
-								instance,
-								getState(),
-								getNextVersion(),
-								getSession()
+				if ( persister.canWriteToCache()
+						&& !persister.isCacheInvalidationRequired() && entry.getStatus() == Status.MANAGED
+						&& session.getCacheMode().isPutEnabled() ) {
+					//TODO: inefficient if that cache is just going to ignore the updated state!
+					final CacheEntry ce = persister.buildCacheEntry(
+							instance,
+							getState(),
+							getNextVersion(),
+							getSession()
+					);
+					setCacheEntry( persister.getCacheEntryStructure().structure( ce ) );
+
+					final boolean put = cacheUpdate( persister, getPreviousVersion(), ck );
+					if ( put && statistics.isStatisticsEnabled() ) {
+						statistics.entityCachePut(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								getPersister().getCacheAccessStrategy().getRegion().getName()
 						);
-						setCacheEntry( persister.getCacheEntryStructure().structure( ce ) );
-
-						final boolean put = cacheUpdate( persister, getPreviousVersion(), ck );
-						if ( put && statistics.isStatisticsEnabled() ) {
-							statistics.entityCachePut(
-									StatsHelper.INSTANCE.getRootEntityRole( persister ),
-									getPersister().getCacheAccessStrategy().getRegion().getName()
-							);
-						}
 					}
 				}
 
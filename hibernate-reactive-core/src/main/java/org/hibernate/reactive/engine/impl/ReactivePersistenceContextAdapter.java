@@ -18,11 +18,13 @@
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -31,6 +33,7 @@
 public class ReactivePersistenceContextAdapter extends StatefulPersistenceContext {
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
+	private HashMap<EntityKey,Boolean> rowExistenceByKey;
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -99,6 +102,52 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Determine which of the given entities have a row in the database,
+	 * using one query per batch of identifiers, and remember the result
+	 * so that {@link #getCachedRowExistence(EntityKey)} can answer later
+	 * without hitting the database.
+	 */
+	public CompletionStage<Void> reactiveResolveRowExistence(Serializable[] ids, EntityPersister persister) {
+		final SessionImplementor session = (SessionImplementor) getSession();
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( 1, ids.length );
+		final int numberOfBatches = ( ids.length + maxBatchSize - 1 ) / maxBatchSize;
+		return loop( 0, numberOfBatches, batch -> {
+			final Serializable[] idsInBatch = Arrays.copyOfRange(
+					ids,
+					batch * maxBatchSize,
+					Math.min( ( batch + 1 ) * maxBatchSize, ids.length )
+			);
+			return ( (ReactiveEntityPersister) persister ).reactiveGetExistingIdentifiers( idsInBatch, session )
+					.thenAccept( existing -> {
+						if ( rowExistenceByKey == null ) {
+							rowExistenceByKey = new HashMap<>( 8 );
+						}
+						for ( Serializable id : idsInBatch ) {
+							rowExistenceByKey.put( session.generateEntityKey( id, persister ), Boolean.FALSE );
+						}
+						for ( Serializable id : existing ) {
+							rowExistenceByKey.put( session.generateEntityKey( id, persister ), Boolean.TRUE );
+						}
+					} );
+		} );
+	}
+
+	/**
+	 * @return {@code true} if the entity with the given key is known to
+	 *         have a row in the database, {@code false} if it is known not
+	 *         to have one, or {@code null} if this isn't known
+	 */
+	public Boolean getCachedRowExistence(EntityKey key) {
+		final Object[] snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		if ( snapshot != null ) {
+			return snapshot != NO_ROW;
+		}
+		return rowExistenceByKey == null ? null : rowExistenceByKey.get( key );
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -117,6 +166,7 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		rowExistenceByKey = null;
 	}
 
 	@Override
@@ -125,6 +175,9 @@ public Object removeEntity(EntityKey key) {
 		if (entitySnapshotsByKey != null ) {
 			entitySnapshotsByKey.remove(key);
 		}
+		if ( rowExistenceByKey != null ) {
+			rowExistenceByKey.remove( key );
+		}
 		return result;
 	}
 }
@@ -5,6 +5,8 @@
  */
 package org.hibernate.reactive.event.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
@@ -28,6 +30,7 @@
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ForeignKeys;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRemoveAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionUpdateAction;
@@ -128,10 +131,24 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 		IdentitySet copiedAlready = new IdentitySet( 10 );
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
-		return loop(
-				entries,
-				index -> flushable( entries[index].getValue() ),
-				index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), copiedAlready ) );
+		// determine whether any detached instances referenced by the
+		// flushable entities exist in the database, using one query
+		// per entity type, before the cascade checks them one by one
+		List<Object> flushableEntities = new ArrayList<>( entries.length );
+		for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+			if ( flushable( entry.getValue() ) ) {
+				flushableEntities.add( entry.getKey() );
+			}
+		}
+		return ForeignKeys.resolveTransientReferences(
+						flushableEntities.toArray(),
+						org.hibernate.engine.spi.CascadingActions.PERSIST_ON_FLUSH,
+						session
+				)
+				.thenCompose( v -> loop(
+						entries,
+						index -> flushable( entries[index].getValue() ),
+						index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), copiedAlready ) ) );
 	}
 
 	private static boolean flushable(EntityEntry entry) {
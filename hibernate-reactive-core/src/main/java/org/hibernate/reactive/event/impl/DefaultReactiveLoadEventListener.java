@@ -11,11 +11,17 @@
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.WrongClassException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -23,30 +29,40 @@
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.IdentifierProperty;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.EmbeddedComponentType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
 
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static java.util.function.Function.identity;
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.cache.ReactiveCacheAccessFactory.cacheAccess;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -532,40 +548,34 @@ private CompletionStage<Object> lockAndLoad(
 			LoadEventListener.LoadType options,
 			SessionImplementor source) {
 
-		final boolean canWriteToCache = persister.canWriteToCache();
-		final SoftLock lock;
-		final Object cacheKey;
-		if ( canWriteToCache ) {
-			EntityDataAccess cache = persister.getCacheAccessStrategy();
-			cacheKey = cache.generateCacheKey(
-					event.getEntityId(),
-					persister,
-					source.getFactory(),
-					source.getTenantIdentifier()
-			);
-			lock = cache.lockItem( source, cacheKey, null );
-		}
-		else {
-			cacheKey = null;
-			lock = null;
-		}
-
-		try {
+		if ( !persister.canWriteToCache() ) {
 			return load( event, persister, keyToLoad, options )
-					.whenComplete( (v, x) -> {
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} )
 					.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 		}
-		catch (HibernateException he) {
-			//in case load() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
-		}
+
+		final ReactiveCacheAccess cache = cacheAccess( source, persister.getCacheAccessStrategy() );
+		final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey(
+				event.getEntityId(),
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+		return cache.lockItem( source, cacheKey, null )
+				.thenCompose( lock -> {
+					CompletionStage<Object> loaded;
+					try {
+						loaded = load( event, persister, keyToLoad, options );
+					}
+					catch (HibernateException he) {
+						//in case load() throws an exception
+						loaded = failedFuture( he );
+					}
+					// release the lock whether or not the load succeeded
+					return loaded.handle( (entity, x) -> cache.unlockItem( source, cacheKey, lock )
+									.thenApply( v -> returnOrRethrow( x, entity ) ) )
+							.thenCompose( identity() );
+				} )
+				.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 	}
 
 
@@ -609,34 +619,248 @@ private CompletionStage<Object> doLoad(
 			return completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
-		if ( entity != null ) {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
+		return loadFromSecondLevelCache( event, persister, keyToLoad )
+				.thenCompose( cached -> {
+					if ( cached != null ) {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Resolved object in second-level cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						cacheNaturalId( event, persister, session, cached );
+						return completedFuture( cached );
+					}
+					else {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Object not resolved in any cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						return loadFromDatasource( event, persister )
+								.thenApply( optional -> {
+									if ( optional!=null ) {
+										cacheNaturalId( event, persister, session, optional );
+									}
+									return optional;
+								} );
+					}
+				} );
+	}
+
+	/**
+	 * Attempt to load the entity from the second-level cache, reading
+	 * the cached entry using the {@link ReactiveCacheAccess}, so that
+	 * the region is never read on the calling thread, and then
+	 * assembling the entity from the entry.
+	 *
+	 * @return the entity, or null if it isn't in the second-level cache
+	 */
+	private CompletionStage<Object> loadFromSecondLevelCache(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad) {
+
+		final EventSource session = event.getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return nullFuture();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return cacheAccess( session, cache ).get( session, cacheKey )
+				.thenCompose( entry -> {
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( entry == null ) {
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.entityCacheMiss(
+									StatsHelper.INSTANCE.getRootEntityRole( persister ),
+									cache.getRegion().getName()
+							);
+						}
+						return nullFuture();
+					}
+					else {
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.entityCacheHit(
+									StatsHelper.INSTANCE.getRootEntityRole( persister ),
+									cache.getRegion().getName()
+							);
+						}
+						return processCachedEntry( event, persister, entry, keyToLoad );
+					}
+				} );
+	}
+
+	/**
+	 * Assemble the entity from the given cached entry, as done by
+	 * {@link CacheEntityLoaderHelper}, but without reading the region
+	 * a second time, and initializing non-lazy collections reactively.
+	 */
+	private CompletionStage<Object> processCachedEntry(
+			LoadEvent event,
+			EntityPersister persister,
+			Object cached,
+			EntityKey entityKey) {
+
+		final EventSource session = event.getSession();
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure()
+				.destructure( cached, session.getFactory() );
+		if ( entry.isReferenceEntry() ) {
+			if ( event.getInstanceToLoad() != null ) {
+				throw new HibernateException(
+						"Attempt to load entity [%s] from cache using provided object instance, but cache " +
+								"is storing references: " + event.getEntityId() );
 			}
-			cacheNaturalId( event, persister, session, entity );
-			return completedFuture( entity );
+			return convertCacheReferenceEntryToEntity( (ReferenceCacheEntryImpl) entry, session, entityKey );
 		}
 		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
+			return convertCacheEntryToEntity( entry, event.getEntityId(), persister, event, entityKey )
+					.thenApply( entity -> {
+						if ( !persister.isInstance( entity ) ) {
+							throw new WrongClassException(
+									"loaded object was of wrong class " + entity.getClass(),
+									event.getEntityId(),
+									persister.getEntityName()
+							);
 						}
-						return optional;
+						return entity;
 					} );
 		}
 	}
 
+	private CompletionStage<Object> convertCacheReferenceEntryToEntity(
+			ReferenceCacheEntryImpl referenceCacheEntry,
+			EventSource session,
+			EntityKey entityKey) {
+		final Object entity = referenceCacheEntry.getReference();
+		if ( entity == null ) {
+			throw new IllegalStateException( "Reference cache entry contained null : " + referenceCacheEntry );
+		}
+
+		// make it circular-reference safe
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		if ( entity instanceof ManagedEntity ) {
+			persistenceContext.addReferenceEntry( entity, Status.READ_ONLY );
+		}
+		else {
+			TwoPhaseLoad.addUninitializedCachedEntity(
+					entityKey,
+					entity,
+					referenceCacheEntry.getSubclassPersister(),
+					LockMode.NONE,
+					referenceCacheEntry.getVersion(),
+					session
+			);
+		}
+		return persistenceContext.reactiveInitializeNonLazyCollections()
+				.thenApply( v -> entity );
+	}
+
+	private CompletionStage<Object> convertCacheEntryToEntity(
+			CacheEntry entry,
+			Serializable entityId,
+			EntityPersister persister,
+			LoadEvent event,
+			EntityKey entityKey) {
+
+		final EventSource session = event.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef(
+					"Converting second-level cache entry [%s] into entity : %s",
+					entry,
+					infoString( persister, entityId, factory )
+			);
+		}
+
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersister( entry.getSubclass() );
+		final Object optionalObject = event.getInstanceToLoad();
+		final Object entity = optionalObject == null
+				? session.instantiate( subclassPersister, entityId )
+				: optionalObject;
+
+		// make it circular-reference safe
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				entity,
+				subclassPersister,
+				LockMode.NONE,
+				entry.getVersion(),
+				session
+		);
+
+		final Type[] types = subclassPersister.getPropertyTypes();
+		// initializes the entity by (desired) side-effect
+		final StandardCacheEntryImpl standardEntry = (StandardCacheEntryImpl) entry;
+		final Object[] values = standardEntry.assemble(
+				entity,
+				entityId,
+				subclassPersister,
+				session.getInterceptor(),
+				session
+		);
+		if ( standardEntry.isDeepCopyNeeded() ) {
+			TypeHelper.deepCopy(
+					values,
+					types,
+					subclassPersister.getPropertyUpdateability(),
+					values,
+					session
+			);
+		}
+		final Object version = Versioning.getVersion( values, subclassPersister );
+		LOG.tracef( "Cached Version : %s", version );
+
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		final boolean isReadOnly = proxy != null
+				// there is already a proxy for this impl
+				// only set the status to read-only if the proxy is read-only
+				? ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly()
+				: session.isDefaultReadOnly();
+
+		persistenceContext.addEntry(
+				entity,
+				isReadOnly ? Status.READ_ONLY : Status.MANAGED,
+				values,
+				null,
+				entityId,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false
+		);
+		subclassPersister.afterInitialize( entity, session );
+
+		return persistenceContext.reactiveInitializeNonLazyCollections()
+				.thenApply( v -> {
+					//PostLoad is needed for EJB3
+					final PostLoadEvent postLoadEvent = new PostLoadEvent( session )
+							.setEntity( entity )
+							.setId( entityId )
+							.setPersister( persister );
+					for ( PostLoadEventListener listener :
+							factory.getFastSessionServices().eventListenerGroup_POST_LOAD.listeners() ) {
+						listener.onPostLoad( postLoadEvent );
+					}
+					return entity;
+				} );
+	}
+
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -11,7 +11,6 @@
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -24,6 +23,7 @@
 import org.hibernate.event.spi.LockEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
 import org.hibernate.reactive.engine.impl.ForeignKeys;
@@ -37,8 +37,12 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static java.util.function.Function.identity;
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.cache.ReactiveCacheAccessFactory.cacheAccess;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 public class DefaultReactiveLockEventListener extends AbstractReassociateEventListener
@@ -193,49 +197,51 @@ private CompletionStage<Void> doUpgradeLock(Object object, EntityEntry entry,
 
 		final EntityPersister persister = entry.getPersister();
 
-		final boolean canWriteToCache = persister.canWriteToCache();
-		final SoftLock lock;
-		final Object cacheKey;
-		if ( canWriteToCache ) {
-			EntityDataAccess cache = persister.getCacheAccessStrategy();
-			cacheKey = cache.generateCacheKey(
-					entry.getId(),
-					persister,
-					source.getFactory(),
-					source.getTenantIdentifier()
-			);
-			lock = cache.lockItem( source, cacheKey, entry.getVersion() );
-		}
-		else {
-			cacheKey = null;
-			lock = null;
+		if ( !persister.canWriteToCache() ) {
+			return lockReactive( object, entry, lockOptions, source, persister );
 		}
 
-		try {
-			return ((ReactiveEntityPersister) persister)
-					.lockReactive(
-							entry.getId(),
-							entry.getVersion(),
-							object,
-							lockOptions,
-							source
-					)
-					.thenAccept( v -> entry.setLockMode( lockOptions.getLockMode() ) )
-					.whenComplete( (r, e) -> {
-						// the database now holds a lock + the object is flushed from the cache,
-						// so release the soft lock
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} );
-		}
-		catch (HibernateException he) {
-			//in case lockReactive() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
-		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey(
+				entry.getId(),
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+		final ReactiveCacheAccess reactiveCache = cacheAccess( source, cache );
+		return reactiveCache.lockItem( source, cacheKey, entry.getVersion() )
+				.thenCompose( lock -> {
+					CompletionStage<Void> locked;
+					try {
+						locked = lockReactive( object, entry, lockOptions, source, persister );
+					}
+					catch (HibernateException he) {
+						//in case lockReactive() throws an exception
+						locked = failedFuture( he );
+					}
+					// the database now holds a lock + the object is flushed from the cache,
+					// so release the soft lock
+					return locked.handle( (v, x) -> reactiveCache.unlockItem( source, cacheKey, lock )
+									.thenAccept( vv -> returnNullorRethrow( x ) ) )
+							.thenCompose( identity() );
+				} );
+	}
+
+	private CompletionStage<Void> lockReactive(
+			Object object,
+			EntityEntry entry,
+			LockOptions lockOptions,
+			EventSource source,
+			EntityPersister persister) {
+		return ( (ReactiveEntityPersister) persister )
+				.lockReactive(
+						entry.getId(),
+						entry.getVersion(),
+						object,
+						lockOptions,
+						source
+				)
+				.thenAccept( v -> entry.setLockMode( lockOptions.getLockMode() ) );
 	}
 
 	@Override
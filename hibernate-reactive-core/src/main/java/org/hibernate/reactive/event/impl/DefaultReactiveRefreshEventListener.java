@@ -21,6 +21,7 @@
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
 import org.hibernate.reactive.event.ReactiveRefreshEventListener;
@@ -35,6 +36,7 @@
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.cache.ReactiveCacheAccessFactory.cacheAccess;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -153,25 +155,9 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 						}
 					}
 
-					if ( persister.canWriteToCache() ) {
-						Object previousVersion = null;
-						if ( persister.isVersionPropertyGenerated() ) {
-							// we need to grab the version value from the entity, otherwise
-							// we have issues with generated-version entities that may have
-							// multiple actions queued during the same flush
-							previousVersion = persister.getVersion( entity );
-						}
-						final EntityDataAccess cache = persister.getCacheAccessStrategy();
-						final Object ck = cache.generateCacheKey(
-								id,
-								persister,
-								source.getFactory(),
-								source.getTenantIdentifier()
-						);
-						final SoftLock lock = cache.lockItem(source, ck, previousVersion );
-						cache.remove(source, ck );
-						source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
-					}
+					return evictFromSecondLevelCache( persister, id, entity, source );
+				} )
+				.thenCompose(v -> {
 
 					evictCachedCollections( persister, id, source);
 
@@ -248,6 +234,37 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 				} );
 	}
 
+	private CompletionStage<Void> evictFromSecondLevelCache(
+			EntityPersister persister,
+			Serializable id,
+			Object entity,
+			EventSource source) {
+		if ( !persister.canWriteToCache() ) {
+			return voidFuture();
+		}
+
+		Object previousVersion = null;
+		if ( persister.isVersionPropertyGenerated() ) {
+			// we need to grab the version value from the entity, otherwise
+			// we have issues with generated-version entities that may have
+			// multiple actions queued during the same flush
+			previousVersion = persister.getVersion( entity );
+		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object ck = cache.generateCacheKey(
+				id,
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		);
+		final ReactiveCacheAccess reactiveCache = cacheAccess( source, cache );
+		return reactiveCache.lockItem( source, ck, previousVersion )
+				.thenCompose( lock -> {
+					source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
+					return reactiveCache.remove( source, ck );
+				} );
+	}
+
 	private CompletionStage<Void> cascadeRefresh(
 			EventSource source,
 			EntityPersister persister,
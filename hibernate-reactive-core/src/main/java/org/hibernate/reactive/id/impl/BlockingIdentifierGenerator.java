@@ -8,18 +8,21 @@
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * A {@link ReactiveIdentifierGenerator} which uses the database to allocate
  * blocks of ids. A block is identified by its "hi" value (the first id in
- * the block). While a new block is being allocated, concurrent streams wait
- * without blocking.
+ * the block). Ids are handed out from the current block without locking.
+ * When three quarters of the ids in the current block have been handed out,
+ * the next block is fetched in advance, so that, usually, no stream needs
+ * to wait for a new block to be allocated. If the current block is exhausted
+ * before the next block arrives, concurrent streams wait without blocking.
  *
  * @author Gavin King
  */
@@ -35,22 +38,11 @@ public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierG
      */
     protected abstract CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session);
 
-    private int loValue;
-    private long hiValue;
-
-    private volatile List<Runnable> queue = null;
-
-    protected synchronized long next() {
-        return loValue>0 && loValue<getBlockSize()
-                ? hiValue + loValue++
-                : -1; //flag value indicating that we need to hit db
-    }
-
-    protected synchronized long next(long hi) {
-        hiValue = hi;
-        loValue = 1;
-        return hi;
-    }
+    /**
+     * The block ids are currently handed out from, initially
+     * an empty block
+     */
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>( new Block( 0, 0 ) );
 
     @Override
     public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
@@ -59,42 +51,93 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object
             return nextHiValue(session);
         }
 
-        long local = next();
-        if ( local >= 0 ) {
-            // We don't need to update or initialize the hi
-            // value in the table, so just increment the lo
-            // value and return the next id in the block
-            return completedFuture(local);
+        final Block block = currentBlock.get();
+        final int lo = block.allocate();
+        if ( lo < 0 ) {
+            // the block is exhausted, so wait for the next
+            // block, install it (unless another stream beat
+            // us to it) and then try again
+            return nextBlock( block, session )
+                    .thenCompose( next -> {
+                        currentBlock.compareAndSet( block, next );
+                        return generate( session, entity );
+                    } );
+        }
+        else if ( lo == block.prefetchPosition ) {
+            // go off and fetch the next block before this one
+            // is exhausted, using this stream's connection, so
+            // we must wait for the fetch before returning, but
+            // other streams can carry on using this block; if
+            // the fetch fails, it's retried when this block is
+            // exhausted
+            final long id = block.hi + lo;
+            return nextBlock( block, session ).handle( (next, error) -> id );
         }
         else {
-            synchronized (this) {
-                CompletableFuture<Long> result = new CompletableFuture<>();
-                if (queue == null) {
-                    // make a queue for any concurrent streams
-                    queue = new ArrayList<>();
-                    // go off and fetch the next hi value from db
-                    nextHiValue(session).thenAccept( id -> {
-//						Vertx.currentContext().runOnContext(v -> {
-                        List<Runnable> list;
-                        synchronized (this) {
-                            // clone ref to the queue
-                            list = queue;
-                            queue = null;
-                            // use the fetched hi value in this stream
-                            result.complete( next(id) );
-                        }
-                        // send waiting streams back to try again
-                        list.forEach(Runnable::run);
-//						} );
-                    } );
-                }
-                else {
-                    // wait for the concurrent fetch to complete
-                    // note that we carefully capture the right session,entity here!
-                    queue.add( () -> generate(session, entity).thenAccept(result::complete) );
+            // We don't need to update or initialize the hi
+            // value in the table, so just return the next id
+            // in the block
+            return completedFuture( block.hi + lo );
+        }
+    }
+
+    /**
+     * Obtain the block which follows the given block, fetching
+     * it from the database if it's not already being fetched.
+     */
+    private CompletionStage<Block> nextBlock(Block block, ReactiveConnectionSupplier session) {
+        final CompletableFuture<Block> existing = block.next.get();
+        if ( existing != null ) {
+            return existing;
+        }
+        final CompletableFuture<Block> next = new CompletableFuture<>();
+        if ( !block.next.compareAndSet( null, next ) ) {
+            // a concurrent stream is already fetching it
+            return block.next.get();
+        }
+        nextHiValue( session ).whenComplete( (hi, error) -> {
+            if ( error == null ) {
+                next.complete( new Block( hi, getBlockSize() ) );
+            }
+            else {
+                // let the next stream try again
+                block.next.compareAndSet( next, null );
+                next.completeExceptionally( error );
+            }
+        } );
+        return next;
+    }
+
+    /**
+     * A block of ids, starting at the "hi" value.
+     */
+    private static final class Block {
+
+        final long hi;
+        final int size;
+        final int prefetchPosition;
+        final AtomicInteger lo = new AtomicInteger();
+        final AtomicReference<CompletableFuture<Block>> next = new AtomicReference<>();
+
+        Block(long hi, int size) {
+            this.hi = hi;
+            this.size = size;
+            this.prefetchPosition = size - Math.max( 1, size / 4 );
+        }
+
+        /**
+         * @return the next "lo" value, or -1 if the block is exhausted
+         */
+        int allocate() {
+            int current;
+            do {
+                current = lo.get();
+                if ( current >= size ) {
+                    return -1;
                 }
-                return result;
             }
+            while ( !lo.compareAndSet( current, current + 1 ) );
+            return current;
         }
     }
 }
@@ -42,7 +42,7 @@ protected int getBlockSize() {
 
 	@Override
 	protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
-		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS ).thenApply( this::next );
+		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS );
 	}
 
 	@Override
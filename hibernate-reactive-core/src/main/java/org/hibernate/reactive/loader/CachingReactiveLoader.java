@@ -12,12 +12,19 @@
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.ReactiveCacheAccessFactory;
+import org.hibernate.reactive.cache.ReactiveQueryResultsCache;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveResultCursor;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
@@ -25,14 +32,19 @@
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 
 /**
@@ -47,6 +59,13 @@
 
 	CoreMessageLogger log = CoreLogging.messageLogger( Loader.class );
 
+	/**
+	 * The number of rows fetched by each read from a cursor, if
+	 * no fetch size was specified for the query, nor by the
+	 * configuration property {@code hibernate.jdbc.fetch_size}.
+	 */
+	int DEFAULT_CURSOR_FETCH_SIZE = 100;
+
 	default CompletionStage<List<Object>> doReactiveList(
 			final String sql,
 			final String queryIdentifier,
@@ -81,6 +100,112 @@ default CompletionStage<List<T>> reactiveListIgnoreQueryCache(
 				.thenApply( result -> getResultList( result, queryParameters.getResultTransformer() ) );
 	}
 
+	/**
+	 * Send the query to the database immediately, but defer hydration of
+	 * its results until the returned {@link Supplier} is called. This
+	 * allows several queries to be sent to the database before the
+	 * results of the first query arrive, while still hydrating the
+	 * results of each query in turn. The query cache is never used.
+	 */
+	default Supplier<CompletionStage<List<T>>> deferredReactiveListIgnoreQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters) {
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		final CompletionStage<ResultSet> resultSet =
+				executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session );
+
+		return () -> doReactiveQueryAndInitializeNonLazyCollections(
+				() -> resultSet,
+				session,
+				queryParameters,
+				true,
+				null,
+				afterLoadActions
+		)
+				.handle( (list, err) -> {
+					logSqlException( err, () -> "could not execute query", sql );
+
+					if ( err == null && stats ) {
+						final long endTime = System.nanoTime();
+						final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+						statistics.queryExecuted( queryIdentifier, list.size(), milliseconds );
+					}
+
+					return returnOrRethrow( err, list );
+				} )
+				.thenApply( list -> getResultList( list, queryParameters.getResultTransformer() ) );
+	}
+
+	/**
+	 * Execute the query using a {@link ReactiveConnection.Cursor}, so
+	 * that the results may be fetched and hydrated in chunks of size
+	 * given by the {@linkplain RowSelection#getFetchSize() fetch size}.
+	 * The query cache is never used.
+	 */
+	default CompletionStage<ReactiveResultCursor<T>> reactiveListCursor(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters) {
+
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		final int fetchSize = cursorFetchSize( queryParameters, session );
+
+		return executeReactiveQueryStatement(
+				sql,
+				queryParameters,
+				afterLoadActions,
+				session,
+				connection( session, queryParameters )::selectJdbcCursor
+		)
+				.handle( (cursor, err) -> {
+					logSqlException( err, () -> "could not execute query", sql );
+					return returnOrRethrow( err, cursor );
+				} )
+				.thenApply( cursor -> new ReactiveResultCursor<T>() {
+					@Override
+					public CompletionStage<List<T>> next() {
+						if ( !cursor.hasMore() ) {
+							return completedFuture( Collections.emptyList() );
+						}
+						return doReactiveQueryAndInitializeNonLazyCollections(
+								() -> cursor.read( fetchSize ),
+								session,
+								queryParameters,
+								true,
+								null,
+								afterLoadActions
+						)
+								.handle( (list, err) -> {
+									logSqlException( err, () -> "could not read results of query", sql );
+									return returnOrRethrow( err, list );
+								} )
+								.thenApply( list -> getResultList( list, queryParameters.getResultTransformer() ) );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return cursor.close();
+					}
+				} );
+	}
+
+	default int cursorFetchSize(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		final RowSelection selection = queryParameters.getRowSelection();
+		if ( selection != null && selection.getFetchSize() != null && selection.getFetchSize() > 0 ) {
+			return selection.getFetchSize();
+		}
+		final Integer defaultFetchSize = session.getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		return defaultFetchSize != null && defaultFetchSize > 0 ? defaultFetchSize : DEFAULT_CURSOR_FETCH_SIZE;
+	}
+
 	default CompletionStage<List<T>> reactiveListUsingQueryCache(
 			final String sql,
 			final String queryIdentifier,
@@ -89,37 +214,131 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 			final Set<Serializable> querySpaces,
 			final Type[] resultTypes) {
 
+		final ReactiveQueryResultsCache reactiveQueryCache = session.getFactory().getServiceRegistry()
+				.getService( ReactiveCacheAccessFactory.class )
+				.getQueryResultsCache();
+		if ( reactiveQueryCache != null ) {
+			return reactiveListUsingReactiveQueryCache(
+					sql,
+					queryIdentifier,
+					session,
+					queryParameters,
+					querySpaces,
+					resultTypes,
+					reactiveQueryCache
+			);
+		}
+
 		QueryResultsCache queryCache = session.getFactory().getCache()
 				.getQueryResultsCache( queryParameters.getCacheRegion() );
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
-		final List<Object> cachedList;
-		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
-		}
-		catch (UnexpectedAccessToTheDatabase e) {
-			log.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
+		return probeQueryCache( queryIdentifier, session, queryCache, key )
+				.thenCompose( cached -> {
+					final List<Object> cachedList;
+					try {
+						// skip the synchronous lookup if we already know the result isn't cached
+						cachedList = cached
+								? getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key )
+								: null;
+					}
+					catch (UnexpectedAccessToTheDatabase e) {
+						log.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
 
-			// Some of the entities in the query results aren't cached and therefore it trys to load them from the db.
-			// Currently this scenario causes an AssertionFailure exception because we cannot deal with the
-			// CompletionStage in that phase.
-			return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
-		}
+						// Some of the entities in the query results aren't cached and therefore it trys to load them from the db.
+						// Currently this scenario causes an AssertionFailure exception because we cannot deal with the
+						// CompletionStage in that phase.
+						return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
+					}
 
-		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
-					} );
-		}
-		else {
-			list = completedFuture( cachedList );
-		}
+					CompletionStage<List<Object>> list;
+					if ( cachedList == null ) {
+						list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+								.thenApply( cachableList -> {
+									putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
+									return cachableList;
+								} );
+					}
+					else {
+						list = completedFuture( cachedList );
+					}
 
-		return list.thenApply(
+					return list.thenApply(
+							result -> getResultList(
+									transform( queryParameters, key, result,
+											resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+									queryParameters.getResultTransformer()
+							)
+					);
+				} );
+	}
+
+	/**
+	 * Does the session have actions queued against the given query
+	 * spaces, which the database doesn't reflect yet?
+	 */
+	default boolean hasUnflushedChanges(SharedSessionContractImplementor session, Set<Serializable> querySpaces) {
+		return session instanceof ReactiveSession
+				&& ( (ReactiveSession) session ).getReactiveActionQueue().areTablesToBeUpdated( querySpaces );
+	}
+
+	/**
+	 * Execute the query using the given {@link ReactiveQueryResultsCache},
+	 * which resolves the entities in a cached result without blocking.
+	 */
+	default CompletionStage<List<T>> reactiveListUsingReactiveQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final ReactiveQueryResultsCache queryCache) {
+
+		final QueryKey key = queryKey( sql, session, queryParameters );
+		final Type[] cachedResultTypes = key.getResultTransformer().getCachedResultTypes( resultTypes );
+		final String regionName = queryParameters.getCacheRegion() == null
+				? ReactiveQueryResultsCache.DEFAULT_QUERY_RESULTS_REGION
+				: queryParameters.getCacheRegion();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+
+		final CompletionStage<List<Object>> cached = session.getCacheMode().isGetEnabled()
+				? queryCache.get( regionName, key, querySpaces, cachedResultTypes, session )
+						.thenApply( cachedList -> {
+							if ( statistics.isStatisticsEnabled() ) {
+								if ( cachedList == null ) {
+									statistics.queryCacheMiss( queryIdentifier, regionName );
+								}
+								else {
+									statistics.queryCacheHit( queryIdentifier, regionName );
+								}
+							}
+							return cachedList;
+						} )
+				: nullFuture();
+
+		return cached.thenCompose( cachedList -> {
+			if ( cachedList != null ) {
+				return completedFuture( cachedList );
+			}
+			// obtain the timestamp before executing the query, so that
+			// the result is stale if the data changes in the meantime
+			final long timestamp = queryCache.getTimestamp();
+			return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+					.thenCompose( list -> {
+						if ( !session.getCacheMode().isPutEnabled() || hasUnflushedChanges( session, querySpaces ) ) {
+							return completedFuture( list );
+						}
+						return queryCache.put( regionName, key, list, querySpaces, cachedResultTypes, timestamp, session )
+								.thenApply( put -> {
+									if ( put && statistics.isStatisticsEnabled() ) {
+										statistics.queryCachePut( queryIdentifier, regionName );
+									}
+									return list;
+								} );
+					} );
+		} ).thenApply(
 				result -> getResultList(
 						transform( queryParameters, key, result,
 								resolveResultTransformer( queryParameters.getResultTransformer() ) ),
@@ -128,6 +347,37 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 		);
 	}
 
+	/**
+	 * Check if the results of the query might be cached, reading the
+	 * query cache region via the {@link ReactiveCacheAccessFactory},
+	 * so that a miss never blocks the calling thread.
+	 *
+	 * @return false if the results are definitely not cached
+	 */
+	default CompletionStage<Boolean> probeQueryCache(
+			String queryIdentifier,
+			SharedSessionContractImplementor session,
+			QueryResultsCache queryCache,
+			QueryKey key) {
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			// the cache won't be read anyway
+			return completedFuture( false );
+		}
+		return session.getFactory().getServiceRegistry()
+				.getService( ReactiveCacheAccessFactory.class )
+				.getFromQueryCache( queryCache.getRegion(), key, session )
+				.thenApply( cached -> {
+					if ( cached == null ) {
+						final StatisticsImplementor statistics = session.getFactory().getStatistics();
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+						}
+						return false;
+					}
+					return true;
+				} );
+	}
+
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
 							  ResultTransformer resolvedTransformer) {
 		if (resolvedTransformer == null) {
@@ -6,6 +6,8 @@
 package org.hibernate.reactive.loader;
 
 import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.dialect.PostgreSQL9Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
@@ -14,6 +16,7 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.transform.ResultTransformer;
@@ -23,6 +26,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * Defines common reactive operations inherited by all kinds of loaders.
@@ -50,6 +55,29 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
 			final ResultTransformer forcedResultTransformer) {
+		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
+		return doReactiveQueryAndInitializeNonLazyCollections(
+				() -> executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session ),
+				session,
+				queryParameters,
+				returnProxies,
+				forcedResultTransformer,
+				afterLoadActions
+		);
+	}
+
+	/**
+	 * Hydrate the results of the given {@link ResultSet}, which might be
+	 * just one chunk of the results of a query read via a
+	 * {@link org.hibernate.reactive.pool.ReactiveConnection.Cursor}.
+	 */
+	default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
+			final Supplier<CompletionStage<ResultSet>> resultSetSupplier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer,
+			final List<AfterLoadAction> afterLoadActions) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		if ( queryParameters.isReadOnlyInitialized() ) {
@@ -64,14 +92,7 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 		}
 		persistenceContext.beforeLoad();
 
-		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
-
-		return executeReactiveQueryStatement(
-				sql,
-				queryParameters,
-				afterLoadActions,
-				session
-		)
+		return resultSetSupplier.get()
 				.thenCompose( resultSet -> {
 							discoverTypes( queryParameters, resultSet );
 							return reactiveProcessResultSet(
@@ -99,6 +120,42 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
 			SharedSessionContractImplementor session) {
+		return executeReactiveQueryStatement(
+				sqlStatement,
+				queryParameters,
+				afterLoadActions,
+				session,
+				connection( session, queryParameters )::selectJdbc
+		);
+	}
+
+	/**
+	 * The connection used to execute a query with the given parameters.
+	 * A read-only query which doesn't obtain a pessimistic lock may be
+	 * executed via the {@linkplain ReactiveConnection#readOnlyConnection()
+	 * read-only connection}, for example, by a read replica.
+	 */
+	default ReactiveConnection connection(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+		final ReactiveConnection connection = ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
+		final LockOptions lockOptions = queryParameters.getLockOptions();
+		final boolean locking = lockOptions != null
+				&& ( lockOptions.getLockMode().greaterThan( LockMode.READ ) || lockOptions.getAliasLockCount() > 0 );
+		return queryParameters.isReadOnly( session ) && !locking
+				? connection.readOnlyConnection()
+				: connection;
+	}
+
+	/**
+	 * Prepare the given SQL statement and its arguments for execution,
+	 * and then execute it using the given operation, which is usually
+	 * a method of {@link org.hibernate.reactive.pool.ReactiveConnection}.
+	 */
+	default <R> CompletionStage<R> executeReactiveQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session,
+			BiFunction<String, Object[], CompletionStage<R>> execution) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -125,8 +182,7 @@ else if ( LimitHelper.useLimit( limitHandler, queryParameters.getRowSelection()
 			sql = parameters().processLimit( sql, parameterArray, LimitHelper.hasFirstRow( queryParameters.getRowSelection() ) );
 		}
 
-		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
-				.selectJdbc( sql, parameterArray );
+		return execution.apply( sql, parameterArray );
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
@@ -9,7 +9,7 @@
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.collection.BasicCollectionJoinWalker;
@@ -92,7 +92,7 @@ protected StringBuilder whereString(String alias, String[] columnNames, String s
 	}
 
 	public final CompletionStage<Void> doBatchedCollectionLoad(
-			final SessionImplementor session,
+			final SharedSessionContractImplementor session,
 			final Serializable[] ids,
 			final Type type) throws HibernateException {
 
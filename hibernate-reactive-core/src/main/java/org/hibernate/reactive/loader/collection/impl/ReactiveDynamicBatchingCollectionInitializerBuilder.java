@@ -7,8 +7,15 @@
 
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.QueryableCollection;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A {@link ReactiveBatchingCollectionInitializerBuilder} that is enabled when
@@ -22,6 +29,44 @@ public class ReactiveDynamicBatchingCollectionInitializerBuilder extends Reactiv
 
 	public static final ReactiveDynamicBatchingCollectionInitializerBuilder INSTANCE = new ReactiveDynamicBatchingCollectionInitializerBuilder();
 
+	/**
+	 * Initialize the uninitialized collections with the given keys, which
+	 * must already be associated with the session, using one query for
+	 * each batch of keys, irrespective of the batch size of the collection.
+	 */
+	public CompletionStage<Void> multiLoad(
+			QueryableCollection persister,
+			Serializable[] keys,
+			SharedSessionContractImplementor session) {
+		if ( keys.length == 0 ) {
+			return voidFuture();
+		}
+
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						persister.getKeyType().getColumnSpan( session.getFactory() ),
+						keys.length
+				);
+		final ReactiveDynamicBatchingCollectionInitializer batchLoader =
+				new ReactiveDynamicBatchingCollectionInitializer(
+						persister,
+						session.getFactory(),
+						session.getLoadQueryInfluencers()
+				);
+
+		final int numberOfBatches = ( keys.length + maxBatchSize - 1 ) / maxBatchSize;
+		return loop( 0, numberOfBatches, batch -> {
+			final int from = batch * maxBatchSize;
+			final int to = Math.min( from + maxBatchSize, keys.length );
+			return batchLoader.doBatchedCollectionLoad(
+					session,
+					Arrays.copyOfRange( keys, from, to ),
+					persister.getKeyType()
+			);
+		} );
+	}
+
 	@Override
 	protected ReactiveCollectionLoader createRealBatchingCollectionInitializer(
 			QueryableCollection persister,
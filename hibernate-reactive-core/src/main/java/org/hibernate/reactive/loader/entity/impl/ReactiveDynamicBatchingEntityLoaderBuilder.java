@@ -14,6 +14,7 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -33,6 +34,7 @@
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -57,6 +59,44 @@ public CompletionStage<List<Object>> multiLoad(
 				performUnorderedMultiLoad(persister, ids, session, loadOptions);
 	}
 
+	/**
+	 * Load the entities with the given ids, using one query for each batch
+	 * of ids, without first looking for them in the persistence context or
+	 * second-level cache. The loaded entities are returned in no particular
+	 * order, and any entity which doesn't exist is simply omitted.
+	 */
+	public CompletionStage<List<Object>> batchLoad(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+						ids.length
+				);
+		final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+
+		final List<Object> result = new ArrayList<>( ids.length );
+		final int numberOfBatches = ( ids.length + maxBatchSize - 1 ) / maxBatchSize;
+		return loop( 0, numberOfBatches, batch -> {
+			final Serializable[] idsInBatch = Arrays.copyOfRange(
+					ids,
+					batch * maxBatchSize,
+					Math.min( ( batch + 1 ) * maxBatchSize, ids.length )
+			);
+			final QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
+			return batchingLoader.doEntityBatchFetch( session, qp, idsInBatch ).thenAccept( result::addAll );
+		} ).thenApply( v -> result );
+	}
+
 	private CompletionStage<List<Object>> performOrderedBatchLoad(
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
@@ -22,6 +22,7 @@
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -32,6 +33,7 @@
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * A reactive {@link QueryLoader} for HQL queries.
@@ -130,6 +132,45 @@ protected CompletionStage<List<T>> reactiveList(
 		}
 	}
 
+	/**
+	 * Send the query to the database immediately, returning a
+	 * {@link Supplier} which hydrates the results when called.
+	 * If the query cache applies to this query, nothing is sent
+	 * until the {@code Supplier} is called.
+	 *
+	 * @see #deferredReactiveListIgnoreQueryCache
+	 */
+	public Supplier<CompletionStage<List<T>>> deferredReactiveList(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		final boolean cacheable = factory.getSessionFactoryOptions().isQueryCacheEnabled()
+				&& queryParameters.isCacheable();
+		if ( cacheable ) {
+			return () -> reactiveList( session, queryParameters );
+		}
+		checkQuery( queryParameters );
+		// see comment in reactiveList()
+		String sql = hasFilters( session )
+				? getSQLString()
+				: parameters().process( getSQLString() );
+		return deferredReactiveListIgnoreQueryCache( sql, getQueryIdentifier(), session, queryParameters );
+	}
+
+	/**
+	 * Return a cursor over the query results, which are fetched and
+	 * hydrated in chunks. The query cache is never used.
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> reactiveListCursor(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		checkQuery( queryParameters );
+		// see comment in reactiveList()
+		String sql = hasFilters( session )
+				? getSQLString()
+				: parameters().process( getSQLString() );
+		return reactiveListCursor( sql, getQueryIdentifier(), session, queryParameters );
+	}
+
 	private static boolean hasFilters(SharedSessionContractImplementor session) {
 		return session.getLoadQueryInfluencers().hasEnabledFilters();
 	}
@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.Cache;
 import org.hibernate.CacheMode;
@@ -19,6 +20,8 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.Identifier;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.session.ReactiveSession;
 
@@ -31,6 +34,7 @@
 import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.Metamodel;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -101,6 +105,14 @@ public interface Mutiny {
 		 */
 		Query<R> setFirstResult(int firstResult);
 
+		/**
+		 * Set the number of rows fetched from the database at a time
+		 * by {@link #getResultStream()}.
+		 *
+		 * @see org.hibernate.query.Query#setFetchSize(int)
+		 */
+		Query<R> setFetchSize(int fetchSize);
+
 		/**
 		 * @return the maximum number results, or {@link Integer#MAX_VALUE}
 		 *          if not set
@@ -154,6 +166,30 @@ public interface Mutiny {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Multi}. The results are read from a database cursor,
+		 * and fetched and hydrated in chunks whose size is determined
+		 * by {@link #setFetchSize(int)}, instead of being loaded into
+		 * memory all at once. If the query has multiple results per
+		 * row, the results are returned in an instance of
+		 * {@code Object[]}.
+		 * <p>
+		 * Entities returned by a stateful {@link Session} are still
+		 * held by its persistence context, and so a
+		 * {@link StatelessSession} should be used to stream very
+		 * large result sets.
+		 * <p>
+		 * Queries with collection fetches, and native SQL queries,
+		 * are not executed using a cursor.
+		 *
+		 * @return the resulting rows as a {@link Multi}
+		 *
+		 * @see javax.persistence.Query#getResultStream()
+		 */
+		@Incubating
+		Multi<R> getResultStream();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -265,6 +301,49 @@ public interface Mutiny {
 		 */
 		Query<R> setLockMode(String alias, LockMode lockMode);
 
+		/**
+		 * Fetch a lazy association, or a path of lazy associations, of
+		 * every entity returned by this query, once the list of results
+		 * has been obtained. Each association in the path is fetched
+		 * for all the entities it belongs to at once, using one query
+		 * for each batch of uninitialized proxies or collections,
+		 * instead of one query per entity, as if by
+		 * {@link Session#fetchAll(Collection, Attribute)}. This works for queries executed by a
+		 * {@link StatelessSession} as well as by a {@link Session}.
+		 * The entities in the rows of a projection are also fetched
+		 * for, but results which aren't entities, for example, scalar
+		 * values, are ignored.
+		 *
+		 * <pre>
+		 * {@code session.createQuery("from Order", Order.class).addFetchAll("lines.product").getResultList()}
+		 * </pre>
+		 *
+		 * @param associationPath the names of the lazy associations to
+		 *                        fetch, separated by dots
+		 */
+		@Incubating
+		Query<R> addFetchAll(String associationPath);
+
+		/**
+		 * Asynchronously execute this query, returning the given page of
+		 * results, along with the pages which follow and precede it. The
+		 * page is determined by a restriction on its key, instead of by
+		 * an offset, so the database never scans the results belonging
+		 * to earlier pages. The query must return an entity, and must not
+		 * have an {@code order by} clause, since the results are ordered
+		 * by the key.
+		 *
+		 * <pre>
+		 * {@code session.createQuery("from Book book where book.published = true", Book.class)
+		 *         .getKeyedResultList(KeyedPage.first(20, "book.title", "book.id"))}
+		 * </pre>
+		 *
+		 * @param page the first page, obtained from {@link KeyedPage#first},
+		 *             or a page obtained from a {@link KeyedResultList}
+		 */
+		@Incubating
+		Uni<KeyedResultList<R>> getKeyedResultList(KeyedPage page);
+
 //		/**
 //		 * Set the {@link LockOptions} to use for the whole query.
 //		 *
@@ -501,6 +580,11 @@ interface Session extends Closeable {
 
 		/**
 		 * Merge multiple entity instances at once.
+		 * <p>
+		 * The persistent instances of the given detached entities, and
+		 * of detached entities reachable from them via associations
+		 * which cascade merge, are loaded using one query per batch of
+		 * entities of the same type, before any entity is merged.
 		 *
 		 * @see #merge(Object)
 		 */
@@ -631,6 +715,26 @@ interface Session extends Closeable {
 		 */
 		<E,T> Uni<T> fetch(E entity, Attribute<E,T> field);
 
+		/**
+		 * Asynchronously fetch a lazy association, identified by a JPA
+		 * {@link Attribute attribute metamodel}, of every given entity,
+		 * using one query for each batch of uninitialized proxies or
+		 * collections, instead of one query per entity, as would happen
+		 * if {@link #fetch(Object)} were called for each entity in turn.
+		 * The given entities should belong to this session.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(orders, Order_.customer).invoke(() -> print(orders.get(0).getCustomer().getName()));}
+		 * </pre>
+		 *
+		 * @param owners the entities whose association should be fetched
+		 * @param association the lazy association to fetch
+		 *
+		 * @see org.hibernate.annotations.BatchSize
+		 */
+		@Incubating
+		<E> Uni<Void> fetchAll(Collection<? extends E> owners, Attribute<E,?> association);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1313,6 +1417,25 @@ interface StatelessSession extends Closeable {
 		 */
 		Uni<Void> insertAll(Object... entities);
 
+		/**
+		 * Insert the rows emitted by the given {@link Multi}, which is
+		 * consumed with backpressure, executing a batch of inserts each
+		 * time the given number of rows have been received. The rows
+		 * are not held in memory once their batch has been executed,
+		 * so this operation is suitable for very large streams.
+		 *
+		 * <pre>
+		 * {@code session.insertAll(rows, 1000).invoke(() -> print("done loading"));}
+		 * </pre>
+		 *
+		 * @param entities a stream of new transient instances
+		 * @param batchSize the number of rows to insert in each batch
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		@Incubating
+		Uni<Void> insertAll(Multi<?> entities, int batchSize);
+
 		/**
 		 * Delete a row.
 		 *
@@ -1359,7 +1482,10 @@ interface StatelessSession extends Closeable {
 		Uni<Void> refresh(Object entity);
 
 		/**
-		 * Refresh the entity instance state from the database.
+		 * Refresh the entity instance state from the database. The
+		 * entities are loaded using one query for each batch of ids.
+		 * Unlike {@link #refresh(Object)}, the collections belonging
+		 * to the entities are not refreshed.
 		 *
 		 * @param entities The entities to be refreshed.
 		 *
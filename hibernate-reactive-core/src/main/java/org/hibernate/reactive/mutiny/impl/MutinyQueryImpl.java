@@ -5,13 +5,17 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 
 import javax.persistence.Parameter;
 import java.util.List;
@@ -75,6 +79,12 @@ public Mutiny.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -143,6 +153,12 @@ public Mutiny.Query<R> setLockMode(String alias, LockMode lockMode) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> addFetchAll(String associationPath) {
+		delegate.addFetchAll( associationPath );
+		return this;
+	}
+
 	@Override
 	public Mutiny.Query<R> setCacheMode(CacheMode cacheMode) {
 		delegate.setCacheMode( cacheMode );
@@ -191,4 +207,24 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Uni<KeyedResultList<R>> getKeyedResultList(KeyedPage page) {
+		return uni( () -> delegate.getReactiveKeyedResultList( page ) );
+	}
+
+	@Override
+	public Multi<R> getResultStream() {
+		return uni( delegate::getReactiveResultCursor )
+				.onItem().transformToMulti( cursor -> Multi.createFrom()
+						.resource( () -> cursor, this::stream )
+						.withFinalizer( (ReactiveResultCursor<R> c) -> uni( c::close ) ) );
+	}
+
+	private Multi<R> stream(ReactiveResultCursor<R> cursor) {
+		return Multi.createBy().repeating()
+				.uni( () -> uni( cursor::next ) )
+				.until( List::isEmpty )
+				.onItem().disjoint();
+	}
+
 }
@@ -24,6 +24,7 @@
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -67,6 +68,11 @@ public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
 		return uni( () -> delegate.reactiveFetch(entity, field) );
 	}
 
+	@Override
+	public <E> Uni<Void> fetchAll(Collection<? extends E> owners, Attribute<E, ?> association) {
+		return uni( () -> delegate.reactiveFetchAll(owners, association) );
+	}
+
 	@Override
 	public <T> Uni<T> unproxy(T association) {
 		return uni( () -> delegate.reactiveFetch(association, true) );
@@ -132,7 +138,7 @@ public Uni<Void> persist(Object entity) {
 
 	@Override
 	public Uni<Void> persistAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entity ) );
+		return uni( () -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -152,7 +158,7 @@ public <T> Uni<T> merge(T entity) {
 
 	@Override @SafeVarargs
 	public final <T> Uni<Void> mergeAll(T... entity) {
-		return uni( () -> applyToAll( delegate::reactiveMerge, entity ) );
+		return uni( () -> delegate.reactiveMergeAll( entity ) );
 	}
 
 	@Override
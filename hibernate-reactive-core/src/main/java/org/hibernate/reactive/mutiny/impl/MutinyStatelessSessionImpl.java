@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.LockMode;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -121,6 +122,18 @@ public Uni<Void> insertAll(Object... entities) {
         return uni( () -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public Uni<Void> insertAll(Multi<?> entities, int batchSize) {
+        if ( batchSize < 1 ) {
+            throw new IllegalArgumentException( "batch size must be positive" );
+        }
+        return entities.group().intoLists().of( batchSize )
+                // insert one batch at a time, requesting the next
+                // batch only once the previous one has been executed
+                .onItem().transformToUniAndConcatenate( batch -> uni( () -> delegate.reactiveInsertAll( batch.toArray() ) ) )
+                .onItem().ignoreAsUni();
+    }
+
     @Override
     public Uni<Void> delete(Object entity) {
         return uni( () -> delegate.reactiveDelete(entity) );
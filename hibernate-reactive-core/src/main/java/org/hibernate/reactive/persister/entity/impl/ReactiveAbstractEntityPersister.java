@@ -9,8 +9,10 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -41,8 +43,10 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
@@ -104,6 +108,8 @@
 public interface ReactiveAbstractEntityPersister extends ReactiveEntityPersister, OuterJoinLoadable, Lockable {
 	Logger log = Logger.getLogger( JoinedSubclassEntityPersister.class );
 
+	String EXISTING_ID_ALIAS = "id_";
+
 	default Parameters parameters() {
 		return Parameters.instance( getFactory().getJdbcServices().getDialect() );
 	}
@@ -258,6 +264,47 @@ default CompletionStage<Serializable> insertReactive(Object[] fields, Object obj
 		}
 	}
 
+	@Override
+	default CompletionStage<Serializable[]> insertAllReactive(Object[][] fields, Object[] objects,
+															  SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[objects.length];
+		if ( objects.length < 2
+				|| delegate().getTableSpan() > 1
+				|| delegate().getEntityMetamodel().isDynamicInsert() ) {
+			// the rows can't all be inserted by the same statement
+			return loop( 0, objects.length,
+					i -> insertReactive( fields[i], objects[i], session ).thenAccept( id -> ids[i] = id )
+			).thenApply( v -> ids );
+		}
+
+		final boolean[] notNull = delegate().getPropertyInsertability();
+		final boolean[][] insertable = delegate().getPropertyColumnInsertable();
+		final List<Object[]> paramValues = new ArrayList<>( objects.length );
+		for ( int i = 0; i < objects.length; i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+
+			final Object[] state = fields[i];
+			paramValues.add( PreparedStatementAdaptor.bind(
+					insert -> delegate().dehydrate( null, state, notNull, insertable, 0, insert, session, false )
+			) );
+		}
+
+		final String sql = checkSql( delegate().getSQLIdentityInsertString() );
+		return getReactiveConnection( session )
+				.insertAndSelectIdentifiers( sql, paramValues )
+				.thenApply( generatedIds -> {
+					for ( int i = 0; i < ids.length; i++ ) {
+						log.debugf( "Natively generated identity: %s", generatedIds[i] );
+						if ( generatedIds[i] == null ) {
+							throw new HibernateException( "The database returned no natively generated identity value" );
+						}
+						ids[i] = castToIdentifierType( generatedIds[i], this );
+					}
+					return ids;
+				} );
+	}
+
 	void preInsertInMemoryValueGeneration(Object[] fields, Object object,
 										  SharedSessionContractImplementor session);
 
@@ -513,6 +560,90 @@ default CompletionStage<Void> deleteReactive(
 		);
 	}
 
+	@Override
+	default CompletionStage<Void> deleteAllReactive(
+			Serializable[] ids, Object[] objects,
+			SharedSessionContractImplementor session) {
+		if ( ids.length < 2 || !isDeleteAllByIdsPossible() ) {
+			return loop( 0, ids.length,
+					i -> deleteReactive( ids[i], delegate().getVersion( objects[i] ), objects[i], session )
+			);
+		}
+
+		// the same entity might be given more than once,
+		// but its row can only be deleted once
+		final Serializable[] distinctIds = new LinkedHashSet<>( Arrays.asList( ids ) )
+				.toArray( new Serializable[0] );
+		final int maxBatchSize = getFactory().getJdbcServices().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( 1, distinctIds.length );
+		final Expectation expectation = appropriateExpectation( delegate().getDeleteResultCheckStyles()[0] );
+		final int numberOfBatches = ( distinctIds.length + maxBatchSize - 1 ) / maxBatchSize;
+		return loop( 0, numberOfBatches, batch -> {
+			final Serializable[] idsInBatch = Arrays.copyOfRange(
+					distinctIds,
+					batch * maxBatchSize,
+					Math.min( ( batch + 1 ) * maxBatchSize, distinctIds.length )
+			);
+			final String sql = parameters().process(
+					new Delete()
+							.setTableName( delegate().getTableName( 0 ) )
+							.setWhere( delegate().getKeyColumns( 0 )[0]
+									+ " in (" + StringHelper.repeat( "?", idsInBatch.length, "," ) + ")" )
+							.toStatementString(),
+					idsInBatch.length
+			);
+			final Object[] params = PreparedStatementAdaptor.bind( delete -> {
+				for ( int i = 0; i < idsInBatch.length; i++ ) {
+					delegate().getIdentifierType().nullSafeSet( delete, idsInBatch[i], i + 1, session );
+				}
+			} );
+			return getReactiveConnection( session ).update( sql, params )
+					.thenAccept( rowCount -> checkDeleteAll( rowCount, idsInBatch, expectation, sql ) );
+		} );
+	}
+
+	/**
+	 * Verify the row count of a {@code delete ... where id in (...)}
+	 * statement, by checking it against the given {@link Expectation}
+	 * of the delete statement for a single row, scaled up to the number
+	 * of ids, so that the errors are the same as for a single delete.
+	 */
+	default void checkDeleteAll(int rowCount, Serializable[] ids, Expectation expectation, String sql) {
+		if ( expectation == Expectations.NONE || ids.length == 1 ) {
+			check( rowCount, ids[0], 0, expectation, null, sql );
+		}
+		else {
+			final Expectation expectationForAll = new Expectations.BasicExpectation( ids.length ) {};
+			check( rowCount, (Serializable) Arrays.asList( ids ), 0, expectationForAll, null, sql );
+		}
+	}
+
+	/**
+	 * Determine if instances of this entity can be deleted with a
+	 * single {@code delete ... where id in (...)} statement, that is,
+	 * if the entity is mapped to a single table with a single-column
+	 * id, isn't versioned, and has no custom SQL for deletion.
+	 */
+	default boolean isDeleteAllByIdsPossible() {
+		if ( delegate().getTableSpan() > 1
+				|| delegate().isVersioned()
+				|| isAllOrDirtyOptimisticLocking()
+				|| delegate().getIdentifierColumnSpan() > 1
+				|| delegate().isTableCascadeDeleteEnabled( 0 ) ) {
+			return false;
+		}
+		// the static delete statement ends with the statement we
+		// would have generated, unless it was written by the user
+		final String defaultDeleteString = parameters().process(
+				new Delete()
+						.setTableName( delegate().getTableName( 0 ) )
+						.addPrimaryKeyColumns( delegate().getKeyColumns( 0 ) )
+						.toStatementString()
+		);
+		return delegate().getSQLDeleteStrings()[0].endsWith( defaultDeleteString );
+	}
+
 	default boolean isAllOrDirtyOptimisticLocking() {
 		OptimisticLockStyle optimisticLockStyle =
 				delegate().getEntityMetamodel().getOptimisticLockStyle();
@@ -1020,6 +1151,46 @@ default CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 				.thenApply( resultSet -> processSnapshot(session, resultSet) );
 	}
 
+	@Override
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(Serializable[] ids,
+																			   SharedSessionContractImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Getting existing identifiers: {0}",
+					infoString( this, ids, getFactory() )
+			);
+		}
+
+		final String column = getIdentifierColumnNames()[0];
+		// the table name might be a union subquery, so give it an alias
+		final String sql = "select t." + column + " as " + EXISTING_ID_ALIAS
+				+ " from " + getTableName() + " t"
+				+ " where t." + column + " in (" + StringHelper.repeat( "?", ids.length, "," ) + ")";
+
+		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 0; i < ids.length; i++ ) {
+				getIdentifierType().nullSafeSet( statement, ids[i], i + 1, session );
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( parameters().process( sql, ids.length ), params )
+				.thenApply( resultSet -> {
+					try {
+						List<Serializable> existing = new ArrayList<>( ids.length );
+						while ( resultSet.next() ) {
+							existing.add( (Serializable) getIdentifierType()
+									.nullSafeGet( resultSet, EXISTING_ID_ALIAS, session, null ) );
+						}
+						return existing;
+					}
+					catch (SQLException sqle) {
+						//can never happen
+						throw new JDBCException( "error reading identifiers", sqle );
+					}
+				} );
+	}
+
 	@Override
 	default CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 															  SharedSessionContractImplementor session) {
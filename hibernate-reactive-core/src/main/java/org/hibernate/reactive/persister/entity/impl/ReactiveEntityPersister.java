@@ -16,9 +16,11 @@
 
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 
 /**
@@ -50,6 +52,21 @@ CompletionStage<Serializable> insertReactive(
 			Object object,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Insert the given states of several instances without blocking,
+	 * retrieving the identifiers generated by the database, in one
+	 * round trip, if possible.
+	 *
+	 * @return the generated identifiers, in the order of the given
+	 *         instances
+	 *
+	 * @see #insertReactive(Object[], Object, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Serializable[]> insertAllReactive(
+			Object[][] fields,
+			Object[] objects,
+			SharedSessionContractImplementor session);
+
 	/**
 	 * Delete the given instance without blocking.
 	 *
@@ -62,6 +79,21 @@ CompletionStage<Void> deleteReactive(
 			SharedSessionContractImplementor session)
 					throws HibernateException;
 
+	/**
+	 * Delete the given instances without blocking, using one statement
+	 * for each batch of ids, if possible. By default, the instances are
+	 * deleted one at a time.
+	 *
+	 * @see #deleteReactive(Serializable, Object, Object, SharedSessionContractImplementor)
+	 */
+	default CompletionStage<Void> deleteAllReactive(
+			Serializable[] ids,
+			Object[] objects,
+			SharedSessionContractImplementor session)
+					throws HibernateException {
+		return loop( 0, ids.length, i -> deleteReactive( ids[i], getVersion( objects[i] ), objects[i], session ) );
+	}
+
 	/**
 	 * Update the given instance state without blocking.
 	 *
@@ -137,6 +169,26 @@ CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 	CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 														  SharedSessionContractImplementor session);
 
+	/**
+	 * Determine which of the given identifiers have a row in the database,
+	 * using a single query. Only supported for single-column identifiers.
+	 * By default, the database snapshot of each identifier is obtained
+	 * using a query for each identifier.
+	 *
+	 * @return the identifiers which have a row in the database
+	 */
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(Serializable[] ids,
+																			   SharedSessionContractImplementor session) {
+		final List<Serializable> existing = new ArrayList<>( ids.length );
+		return loop( ids, id -> reactiveGetDatabaseSnapshot( id, session )
+				.thenAccept( snapshot -> {
+					if ( snapshot != null ) {
+						existing.add( id );
+					}
+				} ) )
+				.thenApply( v -> existing );
+	}
+
 	default <E,T> CompletionStage<T> reactiveInitializeLazyProperty(Attribute<E,T> field, E entity,
 																	SharedSessionContractImplementor session) {
 		return nullFuture();
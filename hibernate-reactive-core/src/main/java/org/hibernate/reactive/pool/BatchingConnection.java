@@ -8,9 +8,14 @@
 
 import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.pipeline;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -20,6 +25,13 @@
  * SQL statements are delegated to a given {@link ReactiveConnection}
  * which only supports explicit batching using {@link #update(String, List)}.
  * <p>
+ * One batch is kept open for each distinct SQL statement, so that
+ * interleaved statements for different tables may still be batched.
+ * A statement is only added to a batch opened before other batches
+ * if the {@link StatementOrdering} allows it to be executed ahead
+ * of the statements in those batches. Otherwise, or when a batch is
+ * full, every open batch is executed, in the order it was opened.
+ * <p>
  * Note that in Hibernate core, the responsibilities of this class
  * are handled by {@link org.hibernate.engine.jdbc.spi.JdbcCoordinator}
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
@@ -32,14 +44,57 @@ public class BatchingConnection implements ReactiveConnection {
 
     private final ReactiveConnection delegate;
     private final int batchSize;
+    private final StatementOrdering ordering;
 
-    private String batchedSql;
-    private Expectation batchedExpectation;
-    private List<Object[]> batchParamValues;
+    /**
+     * The open batches, one per distinct SQL statement, in the
+     * order in which they were opened.
+     */
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
 
     public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+        this( delegate, batchSize, StatementOrdering.STRICT );
+    }
+
+    public BatchingConnection(ReactiveConnection delegate, int batchSize, StatementOrdering ordering) {
         this.delegate = delegate;
         this.batchSize = batchSize;
+        this.ordering = ordering;
+    }
+
+    /**
+     * Determines when a statement may be added to a batch which
+     * was opened before other batches, and is therefore executed
+     * ahead of statements which were issued before it.
+     */
+    @FunctionalInterface
+    public interface StatementOrdering {
+        /**
+         * An ordering which never allows a statement to be executed
+         * ahead of a statement issued before it, so that a batch
+         * is only ever extended if it's the most recent batch.
+         */
+        StatementOrdering STRICT = (sql, earlierSql) -> false;
+
+        /**
+         * @param sql the SQL of the statement being added to a batch
+         * @param earlierSql the SQL of a batch opened after that batch
+         *
+         * @return {@code true} if the statement may be executed ahead
+         *         of statements with the given earlier SQL
+         */
+        boolean mayPrecede(String sql, String earlierSql);
+    }
+
+    private static class Batch {
+        final String sql;
+        final Expectation expectation;
+        final List<Object[]> paramValues = new ArrayList<>();
+
+        Batch(String sql, Expectation expectation) {
+            this.sql = sql;
+            this.expectation = expectation;
+        }
     }
 
     @Override
@@ -48,45 +103,49 @@ public CompletionStage<Void> executeBatch() {
             return voidFuture();
         }
         else {
-            String sql = batchedSql;
-            Expectation expectation = batchedExpectation;
-            List<Object[]> paramValues = batchParamValues;
-            batchedSql = null;
-            batchParamValues = null;
-            batchedExpectation = null;
-
-            if ( paramValues.size()==1 ) {
-                return update( sql, paramValues.get(0) )
-                        .thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
-            }
-            else {
-                return update( sql, paramValues )
-                        .thenAccept( rowCounts -> {
-                            for ( int i=0; i<rowCounts.length; i++ ) {
-                                expectation.verifyOutcome( rowCounts[i], i, sql );
-                            }
-                        } );
-                }
+            // execute the batches in the order in which they were opened
+            List<Batch> openBatches = new ArrayList<>( batches.values() );
+            batches.clear();
+            return delegate.isPipelined()
+                    ? pipeline( 0, openBatches.size(), i -> execute( openBatches.get(i) ) )
+                    : loop( openBatches, this::execute );
+        }
+    }
+
+    private CompletionStage<Void> execute(Batch batch) {
+        String sql = batch.sql;
+        Expectation expectation = batch.expectation;
+        List<Object[]> paramValues = batch.paramValues;
+        if ( paramValues.size()==1 ) {
+            return delegate.update( sql, paramValues.get(0) )
+                    .thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+        }
+        else {
+            return delegate.update( sql, paramValues )
+                    .thenAccept( rowCounts -> {
+                        for ( int i=0; i<rowCounts.length; i++ ) {
+                            expectation.verifyOutcome( rowCounts[i], i, sql );
+                        }
+                    } );
         }
     }
 
     public CompletionStage<Void> update(String sql, Object[] paramValues,
                                         boolean allowBatching, Expectation expectation) {
         if ( allowBatching && batchSize>0 ) {
-            if ( !hasBatch() ) {
+            Batch batch = batches.get( sql );
+            if ( batch == null ) {
                 newBatch( sql, paramValues, expectation );
                 return voidFuture();
             }
+            else if ( batch.paramValues.size()<batchSize && mayExtend( batch ) ) {
+                batch.paramValues.add( paramValues );
+                return voidFuture();
+            }
             else {
-                if ( batchedSql.equals(sql) && batchParamValues.size()<batchSize ) {
-                    batchParamValues.add(paramValues);
-                    return voidFuture();
-                }
-                else {
-                    CompletionStage<Void> lastBatch = executeBatch();
-                    newBatch( sql, paramValues, expectation );
-                    return lastBatch;
-                }
+                CompletionStage<Void> lastBatches = executeBatch();
+                newBatch( sql, paramValues, expectation );
+                return lastBatches;
             }
         }
         else {
@@ -94,15 +153,53 @@ public CompletionStage<Void> update(String sql, Object[] paramValues,
         }
     }
 
+    /**
+     * Adding a statement to the given batch moves it ahead of the
+     * statements in every batch opened after the given batch.
+     */
+    private boolean mayExtend(Batch batch) {
+        boolean later = false;
+        for ( Batch openBatch : batches.values() ) {
+            if ( later ) {
+                if ( !ordering.mayPrecede( batch.sql, openBatch.sql ) ) {
+                    return false;
+                }
+            }
+            else if ( openBatch == batch ) {
+                later = true;
+            }
+        }
+        return true;
+    }
+
     private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
-        batchedSql = sql;
-        batchedExpectation = expectation;
-        batchParamValues = new ArrayList<>();
-        batchParamValues.add(paramValues);
+        Batch batch = new Batch( sql, expectation );
+        batch.paramValues.add( paramValues );
+        batches.put( sql, batch );
     }
 
     private boolean hasBatch() {
-        return batchedSql != null;
+        return !batches.isEmpty();
+    }
+
+    /**
+     * Execute the current batch, if any, followed by the given
+     * operation. If the delegate connection is
+     * {@linkplain ReactiveConnection#isPipelined() pipelined},
+     * the operation is started without waiting for the batch to
+     * complete.
+     */
+    private <T> CompletionStage<T> executeBatchThen(Supplier<CompletionStage<T>> operation) {
+        if ( !hasBatch() ) {
+            return operation.get();
+        }
+        else if ( delegate.isPipelined() ) {
+            CompletionStage<Void> lastBatch = executeBatch();
+            return operation.get().thenCombine( lastBatch, (result, v) -> result );
+        }
+        else {
+            return executeBatch().thenCompose( v -> operation.get() );
+        }
     }
 
     public CompletionStage<Void> execute(String sql) {
@@ -114,46 +211,40 @@ public CompletionStage<Void> executeOutsideTransaction(String sql) {
     }
 
     public CompletionStage<Integer> update(String sql) {
-         return hasBatch() ?
-                 executeBatch().thenCompose( v -> delegate.update(sql) ) :
-                 delegate.update(sql);
+         return executeBatchThen( () -> delegate.update(sql) );
     }
 
     @Override
     public CompletionStage<Integer> update(String sql, Object[] paramValues) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.update(sql, paramValues) ) :
-                delegate.update(sql, paramValues);
+        return executeBatchThen( () -> delegate.update(sql, paramValues) );
     }
 
     public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.update(sql, paramValues) ) :
-                delegate.update(sql, paramValues);
+        return executeBatchThen( () -> delegate.update(sql, paramValues) );
     }
 
     public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.insertAndSelectIdentifier(sql, paramValues) ) :
-                delegate.insertAndSelectIdentifier(sql, paramValues);
+        return executeBatchThen( () -> delegate.insertAndSelectIdentifier(sql, paramValues) );
+    }
+
+    public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+        return executeBatchThen( () -> delegate.insertAndSelectIdentifiers(sql, paramValues) );
     }
 
     public CompletionStage<ReactiveConnection.Result> select(String sql) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.select(sql) ) :
-                delegate.select(sql);
+        return executeBatchThen( () -> delegate.select(sql) );
     }
 
     public CompletionStage<ReactiveConnection.Result> select(String sql, Object[] paramValues) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.select(sql, paramValues) ) :
-                delegate.select(sql, paramValues);
+        return executeBatchThen( () -> delegate.select(sql, paramValues) );
     }
 
     public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
-        return hasBatch() ?
-                executeBatch().thenCompose( v -> delegate.selectJdbc(sql, paramValues) ) :
-                delegate.selectJdbc(sql, paramValues);
+        return executeBatchThen( () -> delegate.selectJdbc(sql, paramValues) );
+    }
+
+    public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+        return executeBatchThen( () -> delegate.selectJdbcCursor(sql, paramValues) );
     }
 
     public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
@@ -176,6 +267,21 @@ public CompletionStage<Void> rollbackTransaction() {
         return delegate.rollbackTransaction();
     }
 
+    public boolean isPipelined() {
+        return delegate.isPipelined();
+    }
+
+    /**
+     * The read-only connection of the delegate, unless this connection
+     * has a pending batch, in which case this connection itself, so
+     * that the batch is executed before the query is.
+     */
+    @Override
+    public ReactiveConnection readOnlyConnection() {
+        final ReactiveConnection readOnly = delegate.readOnlyConnection();
+        return readOnly == delegate || hasBatch() ? this : readOnly;
+    }
+
     public CompletionStage<Void> close() {
         return delegate.close();
     }
@@ -12,6 +12,9 @@
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 /**
  * Abstracts over reactive database connections, defining
  * operations that allow queries to be executed asynchronously
@@ -23,6 +26,11 @@
  * This restriction might be relaxed in future, and is due to the
  * implementation of the {@code ProxyConnection} returned by
  * {@link org.hibernate.reactive.pool.impl.DefaultSqlClientPool#getProxyConnection()}.
+ * <p>
+ * A connection which {@linkplain #isPipelined() supports pipelining}
+ * relaxes this restriction: an operation may be started before the
+ * previous operation has completed, and the statements are sent to
+ * the database in the order in which the operations were started.
  *
  * @see ReactiveConnectionPool
  */
@@ -48,18 +56,108 @@ CompletionStage<Void> update(String sql, Object[] paramValues,
 	CompletionStage<Result> select(String sql, Object[] paramValues);
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Open a {@link Cursor} over the results of the given query,
+	 * allowing the rows to be fetched incrementally instead of
+	 * being materialized all at once. If no transaction is in
+	 * progress, a transaction is started, and held open until
+	 * the cursor is closed, or until {@link #beginTransaction()}
+	 * takes it over.
+	 * <p>
+	 * By default, cursors are not supported, and the returned stage
+	 * fails with an {@link UnsupportedOperationException}.
+	 */
+	default CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return failedFuture( new UnsupportedOperationException( "cursors are not supported by this connection" ) );
+	}
+
 	CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues);
+
+	/**
+	 * Execute the given insert statement once for each of the given
+	 * parameter arrays, sending every insert to the database at once,
+	 * and retrieve the identifiers generated by the database.
+	 * <p>
+	 * By default, the inserts are executed one at a time, using
+	 * {@link #insertAndSelectIdentifier(String, Object[])}.
+	 *
+	 * @return the generated identifiers, in the order of the given
+	 *         parameter arrays
+	 */
+	default CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+		final Long[] identifiers = new Long[paramValues.size()];
+		return loop( 0, identifiers.length, i -> insertAndSelectIdentifier( sql, paramValues.get( i ) )
+				.thenAccept( id -> identifiers[i] = id ) )
+				.thenApply( v -> identifiers );
+	}
 	CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues);
 
 	interface Result extends Iterator<Object[]> {
 		int size();
 	}
 
+	/**
+	 * A cursor over the rows returned by a query, obtained by
+	 * calling {@link #selectJdbcCursor(String, Object[])}.
+	 * <p>
+	 * As with the {@code ReactiveConnection} itself, a read must
+	 * not be started until the previous read has completed.
+	 */
+	interface Cursor {
+		/**
+		 * Read at most the given number of rows.
+		 *
+		 * @return a {@link ResultSet} containing the rows read,
+		 *         which is empty if there are no more rows
+		 */
+		CompletionStage<ResultSet> read(int count);
+
+		/**
+		 * @return {@code true} if there might be more rows to read,
+		 *         which is always the case before the first read,
+		 *         and {@code false} once a read has returned fewer
+		 *         rows than requested
+		 */
+		boolean hasMore();
+
+		/**
+		 * Release the database resources held by the cursor.
+		 */
+		CompletionStage<Void> close();
+	}
+
 	CompletionStage<Void> beginTransaction();
 	CompletionStage<Void> commitTransaction();
 	CompletionStage<Void> rollbackTransaction();
 
 	CompletionStage<Void> executeBatch();
 
+	/**
+	 * @return {@code true} if this connection accepts a new operation
+	 *         before the previous operation has completed, sending the
+	 *         statements back-to-back without waiting for each response
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#STATEMENT_PIPELINING
+	 */
+	default boolean isPipelined() {
+		return false;
+	}
+
+	/**
+	 * Obtain a connection for executing a query whose results need not
+	 * reflect changes made via this connection outside a transaction,
+	 * for example, a connection to a read replica of the database.
+	 * While a transaction is in progress, this connection itself must
+	 * be returned.
+	 *
+	 * @return this connection, unless the connection pool manages
+	 *         read replicas
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReadReplicaSqlClientPool
+	 */
+	default ReactiveConnection readOnlyConnection() {
+		return this;
+	}
+
 	CompletionStage<Void> close();
 }
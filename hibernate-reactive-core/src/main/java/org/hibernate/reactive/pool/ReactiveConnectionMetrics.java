@@ -0,0 +1,86 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+
+/**
+ * Receives notification of events on the hot path of a reactive
+ * connection pool and its connections, for the purpose of collecting
+ * metrics. Every method is called on the event loop, and so must
+ * return quickly and never block. Durations are in nanoseconds.
+ * <p>
+ * The default implementation is
+ * {@link org.hibernate.reactive.pool.impl.ReactiveConnectionStatistics},
+ * which is used when {@link org.hibernate.reactive.provider.Settings#GENERATE_STATISTICS}
+ * is enabled. A custom implementation may be supplied by overriding
+ * {@link org.hibernate.reactive.pool.impl.SqlClientPool#getConnectionMetrics()}.
+ */
+@Incubating
+public interface ReactiveConnectionMetrics {
+
+	/**
+	 * An instance which ignores every event.
+	 */
+	ReactiveConnectionMetrics NONE = new ReactiveConnectionMetrics() {};
+
+	/**
+	 * A connection was requested from the pool.
+	 */
+	default void connectionRequested() {}
+
+	/**
+	 * A connection was obtained from the pool.
+	 *
+	 * @param waitNanos the time since the connection was requested
+	 */
+	default void connectionAcquired(long waitNanos) {}
+
+	/**
+	 * A connection could not be obtained from the pool.
+	 *
+	 * @param waitNanos the time since the connection was requested
+	 */
+	default void connectionFailed(long waitNanos) {}
+
+	/**
+	 * A connection was returned to the pool.
+	 */
+	default void connectionReleased() {}
+
+	/**
+	 * A statement was sent to the database.
+	 */
+	default void statementStarted() {}
+
+	/**
+	 * The result of a statement was received from the database.
+	 *
+	 * @param executionNanos the time since the statement was sent
+	 * @param failed {@code true} if the statement failed
+	 */
+	default void statementCompleted(long executionNanos, boolean failed) {}
+
+	/**
+	 * A batch of statements was sent to the database.
+	 *
+	 * @param batchSize the number of parameter sets in the batch
+	 */
+	default void batchExecuted(int batchSize) {}
+
+	/**
+	 * A transaction was started.
+	 */
+	default void transactionStarted() {}
+
+	/**
+	 * A transaction was committed or rolled back.
+	 *
+	 * @param durationNanos the time since the transaction was started
+	 * @param committed {@code true} if the transaction was committed
+	 */
+	default void transactionCompleted(long durationNanos, boolean committed) {}
+}
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -13,6 +14,8 @@
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.HibernateError;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -27,6 +30,9 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Pool;
@@ -53,6 +59,14 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * If {@link Settings#POOL_PER_EVENT_LOOP} is enabled, a separate
+ * {@code Pool} is lazily created for each event loop, and a connection
+ * requested from an event loop thread is obtained from the pool of that
+ * event loop. The shared {@code Pool} is then also created lazily, and
+ * used by other threads, and by any event loop left without a pool of
+ * its own because the configured pool size is smaller than the number
+ * of event loops plus one.
  *
  * @see SqlClientPoolConfiguration
  */
@@ -71,8 +85,15 @@ public class DefaultSqlClientPool extends SqlClientPool
 	}
 
 	private Pool pools;
+	private final ConcurrentMap<Thread, Pool> eventLoopPools = new ConcurrentHashMap<>();
+	private boolean poolPerEventLoop;
+	private Integer eventLoopPoolSize;
 	private SqlStatementLogger sqlStatementLogger;
 	private URI uri;
+	private boolean pipelining;
+	private boolean statisticsEnabled;
+	private String validationQuery;
+	private int connectionRetries;
 	private ServiceRegistryImplementor serviceRegistry;
 
 	//Asynchronous shutdown promise: we can't return it from #close as we implement a
@@ -90,11 +111,17 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		pipelining = ConfigurationHelper.getBoolean( Settings.STATEMENT_PIPELINING, configuration, false );
+		validationQuery = ConfigurationHelper.getString( Settings.POOL_VALIDATION_QUERY, configuration );
+		connectionRetries = ConfigurationHelper.getInt( Settings.POOL_CONNECTION_RETRIES, configuration, 0 );
+		statisticsEnabled = ConfigurationHelper.getBoolean( Settings.GENERATE_STATISTICS, configuration, false );
+		poolPerEventLoop = ConfigurationHelper.getBoolean( Settings.POOL_PER_EVENT_LOOP, configuration, false );
+		eventLoopPoolSize = ConfigurationHelper.getInteger( Settings.POOL_EVENT_LOOP_SIZE, configuration );
 	}
 
 	@Override
 	public void start() {
-		if ( pools == null ) {
+		if ( pools == null && !poolPerEventLoop ) {
 			pools = createPool( uri );
 		}
 	}
@@ -106,6 +133,69 @@ public CompletionStage<Void> getCloseFuture() {
 
 	@Override
 	protected Pool getPool() {
+		if ( poolPerEventLoop ) {
+			final Context context = Vertx.currentContext();
+			if ( context != null && context.isEventLoopContext() ) {
+				// every context on the same event loop runs on the same thread
+				final Pool pool = eventLoopPools.get( Thread.currentThread() );
+				return pool == null ? eventLoopPool() : pool;
+			}
+			return sharedPool();
+		}
+		return pools;
+	}
+
+	/**
+	 * The pool of the current event loop, created when it's first
+	 * needed, or the shared pool, if the pools of other event loops
+	 * already use up the configured pool size.
+	 */
+	private synchronized Pool eventLoopPool() {
+		final Thread thread = Thread.currentThread();
+		Pool pool = eventLoopPools.get( thread );
+		if ( pool == null ) {
+			if ( eventLoopPools.size() < maxEventLoopPools() ) {
+				pool = createEventLoopPool( uri );
+			}
+			else {
+				messageLogger( DefaultSqlClientPool.class )
+						.infof( "HRX000033: Event loop [%s] uses the connection pool for threads other than event loops", thread.getName() );
+				pool = sharedPool();
+			}
+			eventLoopPools.put( thread, pool );
+		}
+		return pool;
+	}
+
+	/**
+	 * The maximum number of event loops with their own pool. Unless
+	 * {@link Settings#POOL_EVENT_LOOP_SIZE} is set, this is limited so
+	 * that every pool, including the shared pool, has at least one
+	 * connection, without exceeding the configured pool size.
+	 */
+	private int maxEventLoopPools() {
+		final int eventLoops = eventLoopCount( serviceRegistry.getService(VertxInstance.class).getVertx() );
+		if ( eventLoopPoolSize != null ) {
+			return eventLoops;
+		}
+		final int maxSize = serviceRegistry.getService(SqlClientPoolConfiguration.class).poolOptions().getMaxSize();
+		return Math.min( eventLoops, maxSize - 1 );
+	}
+
+	/**
+	 * The pool used by threads which aren't event loop threads, when
+	 * {@link Settings#POOL_PER_EVENT_LOOP} is enabled, created when
+	 * it's first needed, and sized like the pool of an event loop.
+	 */
+	private synchronized Pool sharedPool() {
+		if ( pools == null ) {
+			SqlClientPoolConfiguration configuration = serviceRegistry.getService(SqlClientPoolConfiguration.class);
+			Vertx vertx = serviceRegistry.getService(VertxInstance.class).getVertx();
+			PoolOptions poolOptions = eventLoopPoolOptions( configuration, vertx );
+			messageLogger( DefaultSqlClientPool.class )
+					.infof( "HRX000032: Connection pool size for threads other than event loops: %d", poolOptions.getMaxSize() );
+			pools = createPool( uri, configuration.connectOptions( uri ), poolOptions, vertx );
+		}
 		return pools;
 	}
 
@@ -114,6 +204,26 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected boolean isPipeliningEnabled() {
+		return pipelining;
+	}
+
+	@Override
+	protected boolean isStatisticsEnabled() {
+		return statisticsEnabled;
+	}
+
+	@Override
+	protected String getValidationQuery() {
+		return validationQuery;
+	}
+
+	@Override
+	protected int getConnectionRetries() {
+		return connectionRetries;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -130,6 +240,45 @@ protected Pool createPool(URI uri) {
 		return createPool( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx.getVertx() );
 	}
 
+	/**
+	 * Create a new {@link Pool} for the exclusive use of the current
+	 * event loop, when {@link Settings#POOL_PER_EVENT_LOOP} is enabled.
+	 * Unless {@link Settings#POOL_EVENT_LOOP_SIZE} is set, the maximum
+	 * size of the configured pool is divided between the event loops
+	 * and the shared pool.
+	 *
+	 * @param uri JDBC URL or database URI
+	 *
+	 * @return the new {@link Pool}
+	 */
+	protected Pool createEventLoopPool(URI uri) {
+		SqlClientPoolConfiguration configuration = serviceRegistry.getService(SqlClientPoolConfiguration.class);
+		Vertx vertx = serviceRegistry.getService(VertxInstance.class).getVertx();
+		PoolOptions poolOptions = eventLoopPoolOptions( configuration, vertx );
+		messageLogger( DefaultSqlClientPool.class )
+				.infof( "HRX000030: Connection pool size for event loop [%s]: %d", Thread.currentThread().getName(), poolOptions.getMaxSize() );
+		return createPool( uri, configuration.connectOptions( uri ), poolOptions, vertx );
+	}
+
+	private PoolOptions eventLoopPoolOptions(SqlClientPoolConfiguration configuration, Vertx vertx) {
+		PoolOptions poolOptions = new PoolOptions( configuration.poolOptions() );
+		// one pool per event loop, plus the shared pool, and if that
+		// leaves less than one connection per pool, maxEventLoopPools()
+		// limits the number of pools instead
+		int maxSize = eventLoopPoolSize == null
+				? Math.max( 1, poolOptions.getMaxSize() / ( eventLoopCount( vertx ) + 1 ) )
+				: eventLoopPoolSize;
+		return poolOptions.setMaxSize( maxSize );
+	}
+
+	private static int eventLoopCount(Vertx vertx) {
+		int count = 0;
+		for ( EventExecutor eventLoop : vertx.nettyEventLoopGroup() ) {
+			count++;
+		}
+		return Math.max( 1, count );
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * connection pool options, and the given instance of {@link Vertx}.
@@ -200,8 +349,19 @@ private static boolean driverFound(String scheme, String driverName) {
 
 	@Override
 	public void stop() {
+		List<Future> closing = new ArrayList<>();
 		if ( pools != null ) {
-			this.closeFuture = pools.close();
+			closing.add( pools.close() );
+		}
+		for ( Pool pool : eventLoopPools.values() ) {
+			// an event loop without a pool of its own uses the shared pool
+			if ( pool != pools ) {
+				closing.add( pool.close() );
+			}
+		}
+		eventLoopPools.clear();
+		if ( !closing.isEmpty() ) {
+			this.closeFuture = CompositeFuture.all( closing ).mapEmpty();
 		}
 	}
 
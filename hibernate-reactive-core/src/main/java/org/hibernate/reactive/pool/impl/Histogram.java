@@ -0,0 +1,127 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values which may be recorded
+ * concurrently without contention. Values are counted in buckets
+ * whose width grows exponentially, so that any percentile is
+ * reported with a relative error of at most 1/8, while the memory
+ * used is fixed.
+ *
+ * @see ReactiveConnectionStatistics
+ */
+public final class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = ( Long.SIZE - SUB_BUCKET_BITS ) * SUB_BUCKETS;
+
+	private final LongAdder[] counts = new LongAdder[BUCKETS];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator( Math::max, 0 );
+
+	Histogram() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	void record(long value) {
+		final long nonNegative = Math.max( 0, value );
+		counts[ index( nonNegative ) ].increment();
+		count.increment();
+		sum.add( nonNegative );
+		max.accumulate( nonNegative );
+	}
+
+	private static int index(long value) {
+		if ( value < SUB_BUCKETS ) {
+			// small values are counted exactly
+			return (int) value;
+		}
+		final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( value >>> shift ) & ( SUB_BUCKETS - 1 );
+		return ( shift + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long highestValue(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKETS - 1;
+		final long subBucket = index % SUB_BUCKETS;
+		// for the highest bucket, this overflows to Long.MAX_VALUE
+		return ( ( SUB_BUCKETS + subBucket + 1 ) << shift ) - 1;
+	}
+
+	/**
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of the recorded values
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @return the largest recorded value, or zero if there are none
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * @return the mean of the recorded values, or zero if there are none
+	 */
+	public double getMean() {
+		final long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	/**
+	 * @param percentile a percentile between 0 and 100
+	 *
+	 * @return an upper bound on the value below which the given
+	 *         percentage of the recorded values fall, or zero if
+	 *         there are no recorded values
+	 */
+	public long getValueAtPercentile(double percentile) {
+		final long total = getCount();
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long target = Math.max( 1, (long) Math.ceil( total * Math.min( percentile, 100 ) / 100 ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			cumulative += counts[i].sum();
+			if ( cumulative >= target ) {
+				return Math.min( highestValue( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram{" +
+				"count=" + getCount() +
+				", mean=" + getMean() +
+				", p50=" + getValueAtPercentile( 50 ) +
+				", p99=" + getValueAtPercentile( 99 ) +
+				", max=" + getMax() +
+				'}';
+	}
+}
@@ -5,18 +5,30 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQL9Dialect;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 
 /**
  * PostgreSQL has a "funny" parameter syntax of form {@code $n}, which
  * the Vert.x {@link io.vertx.sqlclient.SqlClient} does not abstract.
  * This class converts JDBC/ODBC-style {@code ?} parameters generated
  * by Hibernate ORM to this native format.
+ * <p>
+ * Since the same SQL strings are processed over and over, the
+ * processed SQL is kept in a bounded cache, shared by every
+ * session factory.
  */
 public class Parameters {
 
+	/**
+	 * The maximum number of processed SQL strings to keep.
+	 */
+	private static final int MAX_CACHE_SIZE = 2048;
+
 	private static Parameters INSTANCE = new Parameters();
 
 	private static Parameters NO_PARSING = new Parameters() {
@@ -42,14 +54,17 @@ public static Parameters instance(Dialect dialect) {
 				: NO_PARSING;
 	}
 
+	private final BoundedConcurrentHashMap<String, String> cache =
+			new BoundedConcurrentHashMap<>( MAX_CACHE_SIZE, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
 	private Parameters() {
 	}
 
 	public String process(String sql) {
-		if ( isProcessingNotRequired( sql ) ) {
-			return sql;
-		}
-		return new Parser( sql ).result();
+		return process( sql, 10 );
 	}
 
 	/**
@@ -84,7 +99,39 @@ public String process(String sql, int parameterCount) {
 		if ( isProcessingNotRequired( sql ) ) {
 			return sql;
 		}
-		return new Parser( sql, parameterCount ).result();
+		// the result doesn't depend on the parameter
+		// count, which is just a hint for the parser
+		String processed = cache.get( sql );
+		if ( processed == null ) {
+			misses.increment();
+			processed = new Parser( sql, parameterCount ).result();
+			cache.put( sql, processed );
+		}
+		else {
+			hits.increment();
+		}
+		return processed;
+	}
+
+	/**
+	 * @return the number of times processed SQL was found in the cache
+	 */
+	public long getCacheHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of times SQL had to be parsed and processed
+	 */
+	public long getCacheMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of processed SQL strings currently cached
+	 */
+	public int getCacheSize() {
+		return cache.size();
 	}
 
 	private static boolean isProcessingNotRequired(String sql) {
@@ -102,27 +149,29 @@ private static class Parser {
 		private boolean escaped;
 		private int count = 0;
 		private StringBuilder result;
-		private int previous;
-
-		private Parser(String sql) {
-			this( sql, 10 );
-		}
+		private char previous;
 
 		private Parser(String sql, int parameterCount) {
-			result = new StringBuilder( sql.length() + parameterCount );
-			sql.codePoints().forEach( this::append );
+			final int length = sql.length();
+			result = new StringBuilder( length + parameterCount );
+			// every character we care about is in the BMP, so
+			// surrogate pairs can safely be copied one char at
+			// a time
+			for ( int i = 0; i < length; i++ ) {
+				append( sql.charAt( i ) );
+			}
 		}
 
 		private String result() {
 			return result.toString();
 		}
 
-		private void append(int codePoint) {
+		private void append(char ch) {
 			if ( escaped ) {
 				escaped = false;
 			}
 			else {
-				switch ( codePoint ) {
+				switch ( ch ) {
 					case '\\':
 						escaped = true;
 						break;
@@ -153,8 +202,8 @@ private void append(int codePoint) {
 						}
 				}
 			}
-			previous = codePoint;
-			result.appendCodePoint( codePoint );
+			previous = ch;
+			result.append( ch );
 		}
 	}
 }
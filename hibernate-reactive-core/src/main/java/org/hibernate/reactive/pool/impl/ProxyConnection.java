@@ -5,41 +5,97 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import java.io.IOException;
 import java.sql.ResultSet;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import io.vertx.sqlclient.ClosedConnectionException;
+
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * A proxy {@link ReactiveConnection} that initializes the
  * underlying connection lazily.
+ * <p>
+ * If the first operation is a query, or the start of a transaction,
+ * and fails because the connection is broken, for example, because
+ * the database failed over after the connection was pooled, then the
+ * operation may be retried using a new connection.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_CONNECTION_RETRIES
  */
 final class ProxyConnection implements ReactiveConnection {
 
-	private final ReactiveConnectionPool sqlClientPool;
+	private final Supplier<CompletionStage<ReactiveConnection>> connectionSupplier;
 	private ReactiveConnection connection;
 	private boolean connected;
 	private boolean closed;
-	private final String tenantId;
+	private final boolean pipelined;
+	private final int retries;
+	private final Queue<CompletableFuture<ReactiveConnection>> waitingForConnection = new ArrayDeque<>();
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool) {
-		this.sqlClientPool = sqlClientPool;
-		tenantId = null;
+		this( sqlClientPool, null, false );
 	}
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId) {
-		this.sqlClientPool = sqlClientPool;
-		this.tenantId = tenantId;
+		this( sqlClientPool, tenantId, false );
+	}
+
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, boolean pipelined) {
+		this( sqlClientPool, null, pipelined );
+	}
+
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, boolean pipelined) {
+		this( sqlClientPool, tenantId, pipelined, 0 );
+	}
+
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, boolean pipelined, int retries) {
+		this( connectionSupplier( sqlClientPool, tenantId ), pipelined, retries );
+	}
+
+	/**
+	 * @param connectionSupplier obtains the underlying connection
+	 *                           when it's first needed
+	 * @param retries the number of times the first operation may be
+	 *                retried using a new connection
+	 */
+	ProxyConnection(Supplier<CompletionStage<ReactiveConnection>> connectionSupplier, boolean pipelined, int retries) {
+		this.connectionSupplier = connectionSupplier;
+		this.pipelined = pipelined;
+		this.retries = retries;
+	}
+
+	private static Supplier<CompletionStage<ReactiveConnection>> connectionSupplier(
+			ReactiveConnectionPool sqlClientPool,
+			String tenantId) {
+		return tenantId == null
+				? sqlClientPool::getConnection
+				: () -> sqlClientPool.getConnection( tenantId );
 	}
 
 	private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
+		return withConnection( operation, false );
+	}
+
+	/**
+	 * @param retryable {@code true} if the operation is safe to repeat,
+	 *                  even if it was already executed by the database
+	 */
+	private <T> CompletionStage<T> withConnection(
+			Function<ReactiveConnection, CompletionStage<T>> operation,
+			boolean retryable) {
 		assertUseOnEventLoop();
 		if ( closed ) {
 			CompletableFuture<T> ret = new CompletableFuture<>();
@@ -48,13 +104,35 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 		}
 		if ( !connected ) {
 			connected = true; // we're not allowed to fetch two connections!
-			CompletionStage<ReactiveConnection> connection =
-					tenantId == null ? sqlClientPool.getConnection() : sqlClientPool.getConnection( tenantId );
-			return connection.thenApply( newConnection -> this.connection = newConnection )
-					.thenCompose( operation );
+			return connectionSupplier.get().thenApply( newConnection -> this.connection = newConnection )
+					.whenComplete( (newConnection, error) -> {
+						if ( error != null ) {
+							failWaitingOperations( error );
+						}
+					} )
+					.thenCompose( newConnection -> {
+						try {
+							// there can't be any operations waiting for the
+							// connection unless the connection is pipelined
+							return retryable && !pipelined && retries > 0
+									? applyWithRetries( operation, newConnection, retries )
+									: operation.apply( newConnection );
+						}
+						finally {
+							startWaitingOperations( newConnection );
+						}
+					} );
 		}
 		else {
 			if ( connection == null ) {
+				if ( pipelined ) {
+					// we're already in the process of fetching a connection,
+					// so queue the operation, to be started, in order, as
+					// soon as the connection is available
+					CompletableFuture<ReactiveConnection> waiting = new CompletableFuture<>();
+					waitingForConnection.add( waiting );
+					return waiting.thenCompose( operation );
+				}
 				// we're already in the process of fetching a connection,
 				// so this must be an illegal concurrent call
 				CompletableFuture<T> ret = new CompletableFuture<>();
@@ -65,6 +143,66 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 		}
 	}
 
+	/**
+	 * Apply the given operation, and if it fails because the given
+	 * connection is broken, close the connection, and apply the
+	 * operation again using a new connection.
+	 */
+	private <T> CompletionStage<T> applyWithRetries(
+			Function<ReactiveConnection, CompletionStage<T>> operation,
+			ReactiveConnection newConnection,
+			int retriesLeft) {
+		return operation.apply( newConnection )
+				.handle( (result, error) -> {
+					if ( error == null ) {
+						return completedFuture( result );
+					}
+					if ( retriesLeft == 0 || closed || !isConnectionFailure( error ) ) {
+						return CompletionStages.<T>failedFuture( error );
+					}
+					this.connection = null;
+					return newConnection.close()
+							// the connection is already broken, so ignore failures
+							.handle( (v, closeError) -> null )
+							.thenCompose( v -> connectionSupplier.get() )
+							.thenCompose( replacement -> {
+								this.connection = replacement;
+								return applyWithRetries( operation, replacement, retriesLeft - 1 );
+							} );
+				} )
+				.thenCompose( Function.identity() );
+	}
+
+	/**
+	 * @return {@code true} if the given error indicates that the
+	 *         connection to the database was lost, in which case the
+	 *         Vert.x pool discards the connection
+	 */
+	static boolean isConnectionFailure(Throwable error) {
+		for ( Throwable cause = error; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof IOException
+					// thrown by Vert.x when a command is sent to a closed connection
+					|| cause instanceof ClosedConnectionException ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void startWaitingOperations(ReactiveConnection newConnection) {
+		CompletableFuture<ReactiveConnection> waiting;
+		while ( ( waiting = waitingForConnection.poll() ) != null ) {
+			waiting.complete( newConnection );
+		}
+	}
+
+	private void failWaitingOperations(Throwable error) {
+		CompletableFuture<ReactiveConnection> waiting;
+		while ( ( waiting = waitingForConnection.poll() ) != null ) {
+			waiting.completeExceptionally( error );
+		}
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return withConnection( conn -> conn.execute( sql ) );
@@ -104,29 +242,39 @@ public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] para
 		return withConnection( conn -> conn.insertAndSelectIdentifier( sql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+		return withConnection( conn -> conn.insertAndSelectIdentifiers( sql, paramValues ) );
+	}
+
 	@Override
 	public CompletionStage<Result> select(String sql) {
-		return withConnection( conn -> conn.select( sql ) );
+		return withConnection( conn -> conn.select( sql ), true );
 	}
 
 	@Override
 	public CompletionStage<Result> select(String sql, Object[] paramValues) {
-		return withConnection( conn -> conn.select( sql, paramValues ) );
+		return withConnection( conn -> conn.select( sql, paramValues ), true );
 	}
 
 	@Override
 	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
-		return withConnection( conn -> conn.selectJdbc( sql, paramValues ) );
+		return withConnection( conn -> conn.selectJdbc( sql, paramValues ), true );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return withConnection( conn -> conn.selectJdbcCursor( sql, paramValues ), true );
 	}
 
 	@Override
 	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
-		return withConnection( conn -> conn.selectIdentifier( sql, paramValues ) );
+		return withConnection( conn -> conn.selectIdentifier( sql, paramValues ), true );
 	}
 
 	@Override
 	public CompletionStage<Void> beginTransaction() {
-		return withConnection( ReactiveConnection::beginTransaction );
+		return withConnection( ReactiveConnection::beginTransaction, true );
 	}
 
 	@Override
@@ -144,6 +292,11 @@ public CompletionStage<Void> executeBatch() {
 		return withConnection( ReactiveConnection::executeBatch );
 	}
 
+	@Override
+	public boolean isPipelined() {
+		return pipelined;
+	}
+
 	@Override
 	public CompletionStage<Void> close() {
 		CompletionStage<Void> stage = CompletionStages.voidFuture();
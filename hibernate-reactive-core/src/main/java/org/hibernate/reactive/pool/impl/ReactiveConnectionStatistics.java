@@ -0,0 +1,188 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+
+/**
+ * Statistics about the connections obtained from a {@link SqlClientPool},
+ * and the statements and transactions executed via these connections,
+ * aggregated over all connections. Durations are in nanoseconds.
+ * <p>
+ * Statistics are collected only if
+ * {@link org.hibernate.reactive.provider.Settings#GENERATE_STATISTICS}
+ * is enabled.
+ *
+ * @see SqlClientPool#getConnectionStatistics()
+ */
+public final class ReactiveConnectionStatistics implements ReactiveConnectionMetrics {
+
+	private final LongAdder connectionRequests = new LongAdder();
+	private final LongAdder connectionFailures = new LongAdder();
+	private final LongAdder pendingConnections = new LongAdder();
+	private final LongAdder connectionsInUse = new LongAdder();
+	private final Histogram connectionWaitTimes = new Histogram();
+
+	private final LongAdder statementFailures = new LongAdder();
+	private final LongAdder statementsInFlight = new LongAdder();
+	private final Histogram statementExecutionTimes = new Histogram();
+	private final Histogram batchSizes = new Histogram();
+
+	private final LongAdder rollbacks = new LongAdder();
+	private final Histogram transactionTimes = new Histogram();
+
+	@Override
+	public void connectionRequested() {
+		connectionRequests.increment();
+		pendingConnections.increment();
+	}
+
+	@Override
+	public void connectionAcquired(long waitNanos) {
+		pendingConnections.decrement();
+		connectionsInUse.increment();
+		connectionWaitTimes.record( waitNanos );
+	}
+
+	@Override
+	public void connectionFailed(long waitNanos) {
+		pendingConnections.decrement();
+		connectionFailures.increment();
+	}
+
+	@Override
+	public void connectionReleased() {
+		connectionsInUse.decrement();
+	}
+
+	@Override
+	public void statementStarted() {
+		statementsInFlight.increment();
+	}
+
+	@Override
+	public void statementCompleted(long executionNanos, boolean failed) {
+		statementsInFlight.decrement();
+		statementExecutionTimes.record( executionNanos );
+		if ( failed ) {
+			statementFailures.increment();
+		}
+	}
+
+	@Override
+	public void batchExecuted(int batchSize) {
+		batchSizes.record( batchSize );
+	}
+
+	@Override
+	public void transactionCompleted(long durationNanos, boolean committed) {
+		transactionTimes.record( durationNanos );
+		if ( !committed ) {
+			rollbacks.increment();
+		}
+	}
+
+	/**
+	 * @return the number of connections requested from the pool
+	 */
+	public long getConnectionRequestCount() {
+		return connectionRequests.sum();
+	}
+
+	/**
+	 * @return the number of connection requests which failed
+	 */
+	public long getConnectionFailureCount() {
+		return connectionFailures.sum();
+	}
+
+	/**
+	 * @return the number of connection requests currently waiting
+	 *         for a connection, usually in the wait queue of the pool
+	 */
+	public long getPendingConnectionCount() {
+		return pendingConnections.sum();
+	}
+
+	/**
+	 * @return the number of connections obtained from the pool
+	 *         which have not yet been returned
+	 */
+	public long getConnectionsInUseCount() {
+		return connectionsInUse.sum();
+	}
+
+	/**
+	 * @return the time taken to obtain each connection from the pool
+	 */
+	public Histogram getConnectionWaitTimes() {
+		return connectionWaitTimes;
+	}
+
+	/**
+	 * @return the number of statements which failed
+	 */
+	public long getStatementFailureCount() {
+		return statementFailures.sum();
+	}
+
+	/**
+	 * @return the number of statements currently awaiting a response
+	 *         from the database
+	 */
+	public long getStatementsInFlightCount() {
+		return statementsInFlight.sum();
+	}
+
+	/**
+	 * @return the time between sending each statement, or batch of
+	 *         statements, and receiving its result
+	 */
+	public Histogram getStatementExecutionTimes() {
+		return statementExecutionTimes;
+	}
+
+	/**
+	 * @return the number of parameter sets in each batch
+	 */
+	public Histogram getBatchSizes() {
+		return batchSizes;
+	}
+
+	/**
+	 * @return the number of transactions which were rolled back
+	 */
+	public long getRollbackCount() {
+		return rollbacks.sum();
+	}
+
+	/**
+	 * @return the time between starting each transaction and
+	 *         committing or rolling it back
+	 */
+	public Histogram getTransactionTimes() {
+		return transactionTimes;
+	}
+
+	@Override
+	public String toString() {
+		return "ReactiveConnectionStatistics{" +
+				"connectionRequests=" + getConnectionRequestCount() +
+				", connectionFailures=" + getConnectionFailureCount() +
+				", pendingConnections=" + getPendingConnectionCount() +
+				", connectionsInUse=" + getConnectionsInUseCount() +
+				", connectionWaitTimes=" + getConnectionWaitTimes() +
+				", statementFailures=" + getStatementFailureCount() +
+				", statementsInFlight=" + getStatementsInFlightCount() +
+				", statementExecutionTimes=" + getStatementExecutionTimes() +
+				", batchSizes=" + getBatchSizes() +
+				", rollbacks=" + getRollbackCount() +
+				", transactionTimes=" + getTransactionTimes() +
+				'}';
+	}
+}
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+
+/**
+ * A {@link ReactiveConnection} to the primary database which also
+ * holds a lazily-initialized connection to a read replica, for use
+ * by read-only queries executed outside a transaction.
+ *
+ * @see ReadReplicaSqlClientPool
+ */
+final class ReadReplicaConnection implements ReactiveConnection {
+
+	private final ReactiveConnection primary;
+	private final ReactiveConnection replica;
+	private final Runnable releaseReplica;
+	private boolean inTransaction;
+
+	/**
+	 * @param primary the connection to the primary database
+	 * @param replica a lazily-initialized connection to a replica
+	 * @param releaseReplica called when the replica connection is closed
+	 */
+	ReadReplicaConnection(ReactiveConnection primary, ReactiveConnection replica, Runnable releaseReplica) {
+		this.primary = primary;
+		this.replica = replica;
+		this.releaseReplica = releaseReplica;
+	}
+
+	@Override
+	public ReactiveConnection readOnlyConnection() {
+		// the replica can't see changes made by the current transaction
+		return inTransaction ? this : replica;
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		inTransaction = true;
+		return primary.beginTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return primary.commitTransaction().whenComplete( (v, e) -> inTransaction = false );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return primary.rollbackTransaction().whenComplete( (v, e) -> inTransaction = false );
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return primary.execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return primary.executeOutsideTransaction( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return primary.update( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return primary.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return primary.update( sql, paramValues, allowBatching, expectation );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return primary.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return primary.select( sql );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return primary.select( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return primary.selectJdbc( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return primary.selectJdbcCursor( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return primary.insertAndSelectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+		return primary.insertAndSelectIdentifiers( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return primary.selectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return primary.executeBatch();
+	}
+
+	@Override
+	public boolean isPipelined() {
+		return primary.isPipelined();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return replica.close()
+				.handle( (v, replicaError) -> {
+					releaseReplica.run();
+					return replicaError;
+				} )
+				.thenCompose( replicaError -> primary.close()
+						.thenApply( v -> returnNullorRethrow( replicaError ) ) );
+	}
+}
@@ -0,0 +1,164 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * A {@link DefaultSqlClientPool} which, in addition to the pool of
+ * connections to the primary database, manages a pool of connections
+ * to each read replica listed by {@link Settings#REPLICA_URLS}.
+ * <p>
+ * Each connection obtained from this pool is a connection to the
+ * primary database, whose {@link ReactiveConnection#readOnlyConnection()
+ * read-only connection} is a connection to the replica with the fewest
+ * connections in use, obtained when it's first needed. Read-only queries,
+ * that is, queries executed by a session in read-only mode, queries
+ * marked read-only, and lookups by id in a stateless session, are routed
+ * to the replica, unless a transaction is in progress. Everything else,
+ * including any work done within a transaction, is executed on the
+ * primary database.
+ * <p>
+ * To use this pool, set {@link Settings#SQL_CLIENT_POOL} to the name of
+ * this class. Connections obtained for a tenant are never routed to a
+ * replica.
+ */
+public class ReadReplicaSqlClientPool extends DefaultSqlClientPool {
+
+	private final List<Replica> replicas = new ArrayList<>();
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private List<URI> replicaUris;
+
+	private volatile Future<Void> replicasCloseFuture = Future.succeededFuture();
+
+	@Override
+	public void configure(Map configuration) {
+		super.configure( configuration );
+		replicaUris = new ArrayList<>();
+		String urls = ConfigurationHelper.getString( Settings.REPLICA_URLS, configuration, "" );
+		for ( String url : StringHelper.split( ",", urls ) ) {
+			if ( !url.trim().isEmpty() ) {
+				messageLogger( ReadReplicaSqlClientPool.class ).infof( "HRX000031: SQL Client read replica URL [%s]", url.trim() );
+				replicaUris.add( parse( url.trim() ) );
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( replicas.isEmpty() ) {
+			for ( URI uri : replicaUris ) {
+				replicas.add( new Replica( createPool( uri ) ) );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		List<Future> closing = new ArrayList<>();
+		for ( Replica replica : replicas ) {
+			closing.add( replica.pool.close() );
+		}
+		replicas.clear();
+		if ( !closing.isEmpty() ) {
+			replicasCloseFuture = CompositeFuture.all( closing ).mapEmpty();
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture()
+				.thenCompose( v -> replicasCloseFuture.toCompletionStage() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return super.getConnection().thenApply( this::withReplica );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return withReplica( super.getProxyConnection() );
+	}
+
+	private ReactiveConnection withReplica(ReactiveConnection primary) {
+		if ( replicas.isEmpty() ) {
+			return primary;
+		}
+		ReplicaLease lease = new ReplicaLease();
+		return new ReadReplicaConnection(
+				primary,
+				new ProxyConnection( lease::acquire, isPipeliningEnabled(), getConnectionRetries() ),
+				lease::release
+		);
+	}
+
+	/**
+	 * @return the replica with the fewest connections in use, where
+	 *         ties are broken by rotating through the replicas
+	 */
+	private Replica leastLoadedReplica() {
+		final int size = replicas.size();
+		final int start = Math.floorMod( nextReplica.getAndIncrement(), size );
+		Replica leastLoaded = null;
+		for ( int i = 0; i < size; i++ ) {
+			Replica replica = replicas.get( ( start + i ) % size );
+			if ( leastLoaded == null || replica.connectionsInUse.get() < leastLoaded.connectionsInUse.get() ) {
+				leastLoaded = replica;
+			}
+		}
+		return leastLoaded;
+	}
+
+	private static final class Replica {
+		final Pool pool;
+		final AtomicInteger connectionsInUse = new AtomicInteger();
+
+		Replica(Pool pool) {
+			this.pool = pool;
+		}
+	}
+
+	/**
+	 * The use of a replica by a single connection, from the time
+	 * a connection to the replica is first needed, until the time
+	 * the connection is closed.
+	 */
+	private final class ReplicaLease {
+		private Replica replica;
+
+		CompletionStage<ReactiveConnection> acquire() {
+			replica = leastLoadedReplica();
+			replica.connectionsInUse.incrementAndGet();
+			return getConnectionFromPool( replica.pool );
+		}
+
+		void release() {
+			if ( replica != null ) {
+				replica.connectionsInUse.decrementAndGet();
+				replica = null;
+			}
+		}
+	}
+}
@@ -12,14 +12,17 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import io.vertx.sqlclient.data.NullValue;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 
 import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -30,6 +33,8 @@
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -43,13 +48,43 @@ public class SqlClientConnection implements ReactiveConnection {
 
 	private final Pool pool;
 	private final SqlConnection connection;
+	private final boolean pipelined;
+	private final ReactiveConnectionMetrics metrics;
 	private Transaction transaction;
+	private long transactionStart;
+	/**
+	 * {@code true} if the current transaction was started to hold open
+	 * a cursor, rather than by {@link #beginTransaction()}
+	 */
+	private boolean cursorTransaction;
+	/**
+	 * The number of open cursors which hold the cursor transaction open
+	 */
+	private int cursorTransactionHolders;
 
 	SqlClientConnection(SqlConnection connection, Pool pool,
-						SqlStatementLogger sqlStatementLogger) {
+						SqlStatementLogger sqlStatementLogger,
+						boolean pipelined) {
+		this( connection, pool, sqlStatementLogger, pipelined, ReactiveConnectionMetrics.NONE );
+	}
+
+	SqlClientConnection(SqlConnection connection, Pool pool,
+						SqlStatementLogger sqlStatementLogger,
+						boolean pipelined,
+						ReactiveConnectionMetrics metrics) {
 		this.pool = pool;
+		this.metrics = metrics;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.connection = connection;
+		this.pipelined = pipelined;
+	}
+
+	/**
+	 * Execute the given query to check that the connection is usable.
+	 * The query is neither logged nor prepared.
+	 */
+	CompletionStage<Void> validate(String sql) {
+		return connection.query( sql ).execute().toCompletionStage().thenApply( rows -> null );
 	}
 
 	@Override
@@ -110,6 +145,59 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return preparedQuery( sql, Tuple.wrap( paramValues ) ).thenApply(ResultSetAdaptor::new);
 	}
 
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		translateNulls( paramValues );
+		feedback( sql );
+		// a cursor only lives as long as the transaction
+		// it was opened in, so if there's no transaction
+		// already in progress, we need to start one, and
+		// keep it open until every such cursor is closed
+		final CompletionStage<Void> begin = transaction == null
+				? connection.begin().toCompletionStage().thenAccept( tx -> {
+					transaction = tx;
+					cursorTransaction = true;
+				} )
+				: voidFuture();
+		return begin.thenCompose( v -> {
+			final Transaction heldTransaction = cursorTransaction ? transaction : null;
+			if ( heldTransaction != null ) {
+				cursorTransactionHolders++;
+			}
+			return connection.prepare( sql ).toCompletionStage()
+					.<Cursor>thenApply( statement -> new RowSetCursor(
+							statement,
+							statement.cursor( Tuple.wrap( paramValues ) ),
+							heldTransaction
+					) )
+					.handle( (cursor, error) -> {
+						if ( error != null && heldTransaction != null ) {
+							return releaseCursorTransaction( heldTransaction )
+									.<Cursor>thenApply( x -> returnNullorRethrow( error ) );
+						}
+						return completedFuture( cursor );
+					} )
+					.thenCompose( stage -> stage );
+		} );
+	}
+
+	/**
+	 * Called when a cursor which held the cursor transaction open is
+	 * closed, ending the transaction once no open cursor needs it,
+	 * unless {@link #beginTransaction()} has taken it over since.
+	 */
+	private CompletionStage<Void> releaseCursorTransaction(Transaction heldTransaction) {
+		if ( !cursorTransaction || transaction != heldTransaction || --cursorTransactionHolders > 0 ) {
+			return voidFuture();
+		}
+		final Transaction cursorTx = transaction;
+		transaction = null;
+		cursorTransaction = false;
+		// we only ever read from a cursor, so commit
+		// and rollback are equivalent here
+		return cursorTx.commit().toCompletionStage();
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return preparedQuery( sql ).thenApply( ignore -> null );
@@ -156,33 +244,69 @@ public CompletionStage<int[]> updateBatch(String sql, List<Tuple> parametersBatc
 	}
 
 	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Tuple parameters) {
-		return preparedQuery( sql, parameters )
-				.thenApply( rows -> {
-					RowIterator<Row> iterator = rows.iterator();
-					return iterator.hasNext() ?
-							iterator.next().getLong(0) :
-							rows.property( getMySqlLastInsertedId() );
-				} );
+		return preparedQuery( sql, parameters ).thenApply( this::generatedIdentifier );
+	}
+
+	@Override
+	public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> batchParamValues) {
+		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
+		for ( Object[] paramValues : batchParamValues ) {
+			translateNulls( paramValues );
+			tuples.add( Tuple.wrap( paramValues ) );
+		}
+		return preparedQueryBatch( sql, tuples ).thenApply( result -> {
+			final Long[] identifiers = new Long[ tuples.size() ];
+			// there's one result for each parameter tuple
+			RowSet<Row> rows = result;
+			for ( int i = 0; i < identifiers.length && rows != null; i++ ) {
+				identifiers[i] = generatedIdentifier( rows );
+				rows = rows.next();
+			}
+			return identifiers;
+		} );
+	}
+
+	/**
+	 * @return the identifier returned by an insert statement, either
+	 *         as a row, or as the MySQL {@code LAST_INSERTED_ID}
+	 */
+	private Long generatedIdentifier(RowSet<Row> rows) {
+		RowIterator<Row> iterator = rows.iterator();
+		return iterator.hasNext() ?
+				iterator.next().getLong(0) :
+				rows.property( getMySqlLastInsertedId() );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage();
+		return measure( () -> client().preparedQuery( sql ).execute( parameters ).toCompletionStage() );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage();
+		metrics.batchExecuted( parameters.size() );
+		return measure( () -> client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage() );
+	}
+
+	/**
+	 * Execute a statement, notifying the {@link ReactiveConnectionMetrics}
+	 * when the statement is sent and when its result is received.
+	 */
+	private <T> CompletionStage<T> measure(Supplier<CompletionStage<T>> execution) {
+		metrics.statementStarted();
+		final long start = System.nanoTime();
+		return execution.get()
+				.whenComplete( (result, error) -> metrics.statementCompleted( System.nanoTime() - start, error != null ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute().toCompletionStage();
+		return measure( () -> client().preparedQuery( sql ).execute().toCompletionStage() );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		feedback( sql );
-		return pool.preparedQuery( sql ).execute().toCompletionStage();
+		return measure( () -> pool.preparedQuery( sql ).execute().toCompletionStage() );
 	}
 
 	private void feedback(String sql) {
@@ -201,6 +325,16 @@ private SqlClient client() {
 
 	@Override
 	public CompletionStage<Void> beginTransaction() {
+		metrics.transactionStarted();
+		transactionStart = System.nanoTime();
+		if ( cursorTransaction ) {
+			// a cursor opened outside a transaction is still open,
+			// and a connection only has one transaction, so the
+			// transaction of the cursor becomes our transaction
+			cursorTransaction = false;
+			cursorTransactionHolders = 0;
+			return voidFuture();
+		}
 		return connection.begin().toCompletionStage()
 				.thenAccept( tx -> transaction = tx );
 	}
@@ -208,18 +342,25 @@ public CompletionStage<Void> beginTransaction() {
 	@Override
 	public CompletionStage<Void> commitTransaction() {
 		return transaction.commit().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+				.whenComplete( (v, x) -> {
+					transaction = null;
+					metrics.transactionCompleted( System.nanoTime() - transactionStart, x == null );
+				} );
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
 		return transaction.rollback().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+				.whenComplete( (v, x) -> {
+					transaction = null;
+					metrics.transactionCompleted( System.nanoTime() - transactionStart, false );
+				} );
 	}
 
 	@Override
 	public CompletionStage<Void> close() {
-		return connection.close().toCompletionStage();
+		return connection.close().toCompletionStage()
+				.whenComplete( (v, x) -> metrics.connectionReleased() );
 	}
 
 	/**
@@ -269,6 +410,55 @@ public Object[] next() {
 		}
 	}
 
+	private class RowSetCursor implements Cursor {
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private final Transaction heldTransaction;
+		// Vert.x doesn't know if there are more rows until the first
+		// read has completed, and throws if we ask before that
+		private boolean hasMore = true;
+
+		RowSetCursor(PreparedStatement statement, io.vertx.sqlclient.Cursor cursor, Transaction heldTransaction) {
+			this.statement = statement;
+			this.cursor = cursor;
+			this.heldTransaction = heldTransaction;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> read(int count) {
+			return measure( () -> cursor.read( count ).toCompletionStage() )
+					.thenApply( rows -> {
+						hasMore = rows.size() == count && cursor.hasMore();
+						return new ResultSetAdaptor( rows );
+					} );
+		}
+
+		@Override
+		public boolean hasMore() {
+			return hasMore;
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			hasMore = false;
+			CompletionStage<Void> close = cursor.close().toCompletionStage()
+					.thenCompose( v -> statement.close().toCompletionStage() );
+			return heldTransaction != null
+					? close.handle( (v, x) -> x )
+							.thenCompose( x -> releaseCursorTransaction( heldTransaction )
+									.thenAccept( v -> returnNullorRethrow( x ) ) )
+					: close;
+		}
+	}
+
+	@Override
+	public boolean isPipelined() {
+		// Vert.x queues the commands sent to a connection,
+		// and sends them in order, so there's nothing more
+		// we need to do here
+		return pipelined;
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		return voidFuture();
@@ -6,15 +6,17 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.util.impl.CompletionStages;
 
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.SqlConnection;
 
-
 /**
  * A pool of reactive connections backed by a supplier of
  * Vert.x {@link Pool} instances.
@@ -32,6 +34,9 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private final ReactiveConnectionStatistics connectionStatistics = new ReactiveConnectionStatistics();
+
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -59,6 +64,68 @@ protected Pool getTenantPool(String tenantId) {
 		throw new UnsupportedOperationException("multitenancy not supported by built-in SqlClientPool");
 	}
 
+	/**
+	 * @return {@code true} if the connections obtained from this pool
+	 *         should {@linkplain ReactiveConnection#isPipelined() support
+	 *         pipelining}
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#STATEMENT_PIPELINING
+	 */
+	protected boolean isPipeliningEnabled() {
+		return false;
+	}
+
+	/**
+	 * @return a query used to validate each connection obtained from
+	 *         this pool, or null if connections are not validated
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#POOL_VALIDATION_QUERY
+	 */
+	protected String getValidationQuery() {
+		return null;
+	}
+
+	/**
+	 * @return the number of times a broken connection may be replaced
+	 *         by a new connection, when it fails validation, or when the
+	 *         first query of a {@linkplain #getProxyConnection() proxy
+	 *         connection} fails because the connection was lost
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#POOL_CONNECTION_RETRIES
+	 */
+	protected int getConnectionRetries() {
+		return 0;
+	}
+
+	/**
+	 * @return {@code true} if {@linkplain #getConnectionStatistics()
+	 *         statistics} should be collected
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#GENERATE_STATISTICS
+	 */
+	protected boolean isStatisticsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @return the {@link ReactiveConnectionMetrics} notified of events
+	 *         affecting this pool and its connections, by default, the
+	 *         {@linkplain #getConnectionStatistics() statistics} of this
+	 *         pool, if statistics are enabled
+	 */
+	protected ReactiveConnectionMetrics getConnectionMetrics() {
+		return isStatisticsEnabled() ? connectionStatistics : ReactiveConnectionMetrics.NONE;
+	}
+
+	/**
+	 * @return statistics about the connections obtained from this pool,
+	 *         and the statements executed via these connections, which
+	 *         are only collected if statistics are enabled
+	 */
+	public ReactiveConnectionStatistics getConnectionStatistics() {
+		return connectionStatistics;
+	}
+
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection() {
 		return getConnectionFromPool( getPool() );
@@ -69,22 +136,73 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
 		return getConnectionFromPool( getTenantPool( tenantId ) );
 	}
 
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return pool.getConnection().toCompletionStage().thenApply( this::newConnection );
+	/**
+	 * Obtain a reactive connection from the given {@link Pool}.
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
+		return getConnectionFromPool( pool, getConnectionRetries() );
+	}
+
+	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, int retriesLeft) {
+		final ReactiveConnectionMetrics metrics = getConnectionMetrics();
+		final long start = System.nanoTime();
+		metrics.connectionRequested();
+		return pool.getConnection().toCompletionStage()
+				.whenComplete( (connection, error) -> {
+					if ( error == null ) {
+						metrics.connectionAcquired( System.nanoTime() - start );
+					}
+					else {
+						metrics.connectionFailed( System.nanoTime() - start );
+					}
+				} )
+				.thenApply( connection -> newConnection( connection, metrics ) )
+				.thenCompose( connection -> validate( connection, pool, retriesLeft ) );
+	}
+
+	/**
+	 * Execute the {@linkplain #getValidationQuery() validation query}
+	 * using the given new connection, and if it fails, close the
+	 * connection and obtain a different connection from the pool.
+	 */
+	private CompletionStage<ReactiveConnection> validate(SqlClientConnection connection, Pool pool, int retriesLeft) {
+		final String validationQuery = getValidationQuery();
+		if ( validationQuery == null ) {
+			return CompletionStages.completedFuture( connection );
+		}
+		return connection.validate( validationQuery )
+				.handle( (v, error) -> {
+					if ( error == null ) {
+						return CompletionStages.<ReactiveConnection>completedFuture( connection );
+					}
+					final CompletionStage<Void> close = connection.close()
+							// the connection is already broken, so ignore failures
+							.handle( (ignore, closeError) -> null );
+					return retriesLeft > 0
+							? close.thenCompose( ignore -> getConnectionFromPool( pool, retriesLeft - 1 ) )
+							: close.thenCompose( ignore -> CompletionStages.<ReactiveConnection>failedFuture( error ) );
+				} )
+				.thenCompose( Function.identity() );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+	private SqlClientConnection newConnection(SqlConnection connection, ReactiveConnectionMetrics metrics) {
+		return new SqlClientConnection(
+				connection,
+				getPool(),
+				getSqlStatementLogger(),
+				isPipeliningEnabled(),
+				metrics
+		);
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection() {
-		return new ProxyConnection( this );
+		return new ProxyConnection( this, null, isPipeliningEnabled(), getConnectionRetries() );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection(String tenantId) {
-		return new ProxyConnection( this, tenantId );
+		return new ProxyConnection( this, tenantId, isPipeliningEnabled(), getConnectionRetries() );
 	}
 
 }
@@ -24,7 +24,13 @@ public interface Settings extends AvailableSettings {
 
 	/**
 	 * Property for configuring the Vert.x prepared statement cache.
+	 * The cache is enabled by default, and holds the statements
+	 * prepared by each physical connection, so that a statement is
+	 * only prepared once by a connection, even when the connection
+	 * is returned to the pool between sessions. A size of zero or
+	 * less disables the cache.
 	 *
+	 * @see io.vertx.sqlclient.SqlConnectOptions#setCachePreparedStatements(boolean)
 	 * @see io.vertx.sqlclient.SqlConnectOptions#setPreparedStatementCacheMaxSize(int)
 	 */
 	String PREPARED_STATEMENT_CACHE_MAX_SIZE = "hibernate.vertx.prepared_statement_cache.max_size";
@@ -57,6 +63,106 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * A query, for example, {@code select 1}, which is executed to
+	 * validate each connection obtained from the Vert.x connection pool.
+	 * A connection which fails validation is closed, and replaced by
+	 * another connection, at most {@value #POOL_CONNECTION_RETRIES}
+	 * times. By default, connections are not validated.
+	 */
+	String POOL_VALIDATION_QUERY = "hibernate.vertx.pool.validation_query";
+
+	/**
+	 * The number of times a broken connection may be replaced by another
+	 * connection from the pool, either when it fails validation, or when
+	 * the first query, or the start of the first transaction, of a session
+	 * fails because the connection was lost, for example, after a failover
+	 * of the database. The query is then retried using the new connection.
+	 * Zero by default.
+	 *
+	 * @see #POOL_VALIDATION_QUERY
+	 */
+	String POOL_CONNECTION_RETRIES = "hibernate.vertx.pool.connection_retries";
+
+	/**
+	 * When enabled, a separate Vert.x connection pool is created for each
+	 * event loop, and a connection requested from an event loop is always
+	 * obtained from its own pool, avoiding the handoff of connections
+	 * between event loop threads. Connections requested from any other
+	 * thread are obtained from a shared pool, which is only created when
+	 * it's first needed. Disabled by default.
+	 *
+	 * @see #POOL_EVENT_LOOP_SIZE
+	 */
+	String POOL_PER_EVENT_LOOP = "hibernate.vertx.pool.per_event_loop";
+
+	/**
+	 * The maximum size of the connection pool of each event loop, and of
+	 * the shared pool, when {@value #POOL_PER_EVENT_LOOP} is enabled. By
+	 * default, the configured {@linkplain #POOL_SIZE pool size} is divided
+	 * between the event loops and the shared pool, so that the total
+	 * number of connections never exceeds it. If the pool size is less
+	 * than the number of event loops plus one, only some event loops get
+	 * a pool, with a single connection, and the other event loops use
+	 * the shared pool.
+	 */
+	String POOL_EVENT_LOOP_SIZE = "hibernate.vertx.pool.event_loop_size";
+
+	/**
+	 * A comma-separated list of JDBC URLs or database URIs of read
+	 * replicas of the database, used by the
+	 * {@link org.hibernate.reactive.pool.impl.ReadReplicaSqlClientPool}.
+	 */
+	String REPLICA_URLS = "hibernate.vertx.pool.replica_urls";
+
+	/**
+	 * When enabled, independent statements executed during a flush are
+	 * sent to the database back-to-back, without waiting for the result
+	 * of each statement before sending the next. The statements are
+	 * still sent in order. This reduces the number of network round
+	 * trips when the database client supports command pipelining, as
+	 * the Vert.x PostgreSQL client does. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.ReactiveConnection#isPipelined()
+	 */
+	String STATEMENT_PIPELINING = "hibernate.vertx.statement_pipelining";
+
+	/**
+	 * When enabled, operations on the second-level cache and query
+	 * cache are run on the Vert.x worker pool, so that a cache
+	 * provider which performs blocking I/O, for example, a remote
+	 * JCache provider, doesn't block the event loop. Disabled by
+	 * default, since it's unnecessary for in-memory caches.
+	 *
+	 * @see org.hibernate.reactive.cache.ReactiveCacheAccessFactory
+	 */
+	String CACHE_BLOCKING = "hibernate.reactive.cache.blocking";
+
+	/**
+	 * When set, the results of cacheable queries are held in memory by
+	 * Hibernate Reactive itself, instead of in the query cache regions of
+	 * the configured {@link org.hibernate.cache.spi.RegionFactory}, with
+	 * at most the given number of results in each region. Any entity
+	 * which a cached result refers to, but which isn't in the session,
+	 * is fetched from the database by a batch query. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.InProcessQueryResultsCache
+	 */
+	String QUERY_CACHE_MAX_SIZE = "hibernate.reactive.query_cache.max_size";
+
+	/**
+	 * When enabled, HQL {@code update} and {@code delete} queries which
+	 * affect multiple tables, for example, the tables of a joined
+	 * inheritance hierarchy, are executed as a single statement which
+	 * selects the ids of the affected entities in a common table
+	 * expression, instead of via a temporary id table. Only supported
+	 * on PostgreSQL and CockroachDB, and ignored for other databases.
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.bulk.impl.ReactiveBulkIdStrategy
+	 */
+	String BULK_ID_CTE = "hibernate.reactive.bulk_id.cte";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
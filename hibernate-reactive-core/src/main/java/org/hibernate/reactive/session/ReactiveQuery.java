@@ -15,6 +15,8 @@
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.AbstractProducedQuery;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -43,6 +45,14 @@
 
 	CompletionStage<List<R>> getReactiveResultList();
 
+	CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor();
+
+	/**
+	 * Obtain the given page of results, using a restriction on the key
+	 * of the page instead of an offset.
+	 */
+	CompletionStage<KeyedResultList<R>> getReactiveKeyedResultList(KeyedPage page);
+
 	default CompletionStage<R> getReactiveSingleResultOrNull() {
 		return getReactiveResultList().thenApply( list -> {
 			switch ( list.size() ) {
@@ -66,6 +76,8 @@ default CompletionStage<R> getReactiveSingleResultOrNull() {
 
 	ReactiveQuery<R> setFirstResult(int firstResult);
 
+	ReactiveQuery<R> setFetchSize(int fetchSize);
+
 	int getMaxResults();
 
 	int getFirstResult();
@@ -135,4 +147,11 @@ static <R> R extractUniqueResult(List<R> list, AbstractProducedQuery<R> query) {
 	String getCacheRegion();
 
 	ReactiveQuery<R> setQuerySpaces(String[] querySpaces);
+
+	/**
+	 * Fetch the associations along the given path of dot-separated
+	 * association names for every entity returned by the query, once
+	 * the list of results has been obtained.
+	 */
+	ReactiveQuery<R> addFetchAll(String associationPath);
 }
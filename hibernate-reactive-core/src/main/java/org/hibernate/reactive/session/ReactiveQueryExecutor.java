@@ -16,6 +16,7 @@
 
 import javax.persistence.EntityGraph;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
@@ -35,6 +36,7 @@ public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
 
     <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters);
     <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
+    <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters);
 
     CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
     CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
@@ -46,6 +48,13 @@ CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification speci
 
     CompletionStage<Object> reactiveInternalLoad(String entityName, Serializable id, boolean eager, boolean nullable);
 
+    /**
+     * Fetch the named association of every one of the given entities,
+     * loading uninitialized proxies and collections with one query per
+     * batch, instead of one query per entity.
+     */
+    CompletionStage<Void> reactiveFetchAll(Collection<?> owners, String association);
+
     <R> ReactiveQuery<R> createReactiveQuery(Criteria<R> criteria);
 
     <T> ReactiveQuery<T> createReactiveCriteriaQuery(
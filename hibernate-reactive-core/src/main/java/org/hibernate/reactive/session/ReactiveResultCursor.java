@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session;
+
+import org.hibernate.Incubating;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A cursor over the results of a query, allowing the results to be
+ * fetched and hydrated in chunks, instead of all at once. An internal
+ * contract between the reactive session implementation and the
+ * {@code getResultStream()} operations of
+ * {@link org.hibernate.reactive.stage.Stage.Query} and
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Query}.
+ * <p>
+ * It is illegal to call {@link #next()} before the previous call
+ * has completed.
+ *
+ * @see ReactiveQuery#getReactiveResultCursor()
+ */
+@Incubating
+public interface ReactiveResultCursor<R> {
+
+	/**
+	 * Fetch and hydrate the next chunk of results.
+	 *
+	 * @return the next chunk, or an empty list if there
+	 *         are no more results
+	 */
+	CompletionStage<List<R>> next();
+
+	/**
+	 * Release the resources held by this cursor.
+	 */
+	CompletionStage<Void> close();
+
+	/**
+	 * A cursor over results which have already been fetched.
+	 */
+	static <R> ReactiveResultCursor<R> of(List<R> results) {
+		return new ReactiveResultCursor<R>() {
+			private List<R> remaining = results;
+
+			@Override
+			public CompletionStage<List<R>> next() {
+				List<R> next = remaining;
+				remaining = Collections.emptyList();
+				return completedFuture( next );
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				remaining = Collections.emptyList();
+				return voidFuture();
+			}
+		};
+	}
+}
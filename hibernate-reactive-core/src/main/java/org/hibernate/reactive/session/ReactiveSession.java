@@ -22,6 +22,7 @@
 import javax.persistence.EntityGraph;
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -50,8 +51,12 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	<E,T> CompletionStage<T> reactiveFetch(E entity, Attribute<E,T> field);
 
+	<E> CompletionStage<Void> reactiveFetchAll(Collection<? extends E> owners, Attribute<E,?> association);
+
 	CompletionStage<Void> reactivePersist(Object entity);
 
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
 	CompletionStage<Void> reactivePersist(Object object, IdentitySet copiedAlready);
 
 	CompletionStage<Void> reactivePersistOnFlush(Object entity, IdentitySet copiedAlready);
@@ -66,6 +71,8 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlready);
 
+	CompletionStage<Void> reactiveMergeAll(Object... entities);
+
 	CompletionStage<Void> reactiveFlush();
 
 	CompletionStage<Void> reactiveAutoflush();
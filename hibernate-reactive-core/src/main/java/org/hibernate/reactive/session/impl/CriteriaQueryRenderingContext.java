@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.session.impl;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -41,11 +42,6 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 	private final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
 	private final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
 
-	//TODO: roll this back once we have parameters?
-//		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
-//				.getSessionFactoryOptions()
-//				.getCriteriaLiteralHandlingMode();
-
 	private int aliasCount;
 	private int explicitParameterCount;
 
@@ -55,10 +51,18 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 
 	private final Dialect dialect;
 	private final TypeResolver typeResolver;
+	private final LiteralHandlingMode criteriaLiteralHandlingMode;
 
 	public CriteriaQueryRenderingContext(SessionFactoryImplementor sessionFactory) {
 		dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 		typeResolver = sessionFactory.getTypeResolver();
+		// literals are inlined unless a literal handling mode is
+		// explicitly configured, since the default mode of core
+		// Hibernate, AUTO, would bind string literals
+		criteriaLiteralHandlingMode = sessionFactory.getProperties()
+				.containsKey( AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE )
+				? sessionFactory.getSessionFactoryOptions().getCriteriaLiteralHandlingMode()
+				: LiteralHandlingMode.INLINE;
 	}
 
 	@Override
@@ -68,8 +72,10 @@ public Dialect getDialect() {
 
 	@Override
 	public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
-		return LiteralHandlingMode.INLINE;
-//				return criteriaLiteralHandlingMode;
+		// if literals aren't inlined, criteria queries which differ
+		// only in the values of their literals are rendered to the
+		// same HQL, and share a single plan in the QueryPlanCache
+		return criteriaLiteralHandlingMode;
 	}
 	@Override
 	public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
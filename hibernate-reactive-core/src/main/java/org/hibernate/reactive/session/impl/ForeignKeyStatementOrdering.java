@@ -0,0 +1,159 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Table;
+import org.hibernate.reactive.pool.BatchingConnection;
+
+/**
+ * A {@link BatchingConnection.StatementOrdering} which allows a
+ * statement to be moved ahead of an earlier statement affecting a
+ * different table, as long as there's no mapped foreign key between
+ * the two tables which requires them to be executed in order.
+ * <p>
+ * Statements which don't look like an {@code insert}, {@code update},
+ * or {@code delete} of a single table are never reordered.
+ */
+final class ForeignKeyStatementOrdering implements BatchingConnection.StatementOrdering {
+
+	/**
+	 * Matches the kind of statement, and the table name, which may be
+	 * qualified, and whose parts may be quoted identifiers containing
+	 * whitespace.
+	 */
+	private static final Pattern STATEMENT = Pattern.compile(
+			"^\\s*(?:/\\*.*?\\*/\\s*)?(insert\\s+into|update|delete\\s+from)\\s+"
+					+ "((?:\"[^\"]*\"|`[^`]*`|\\[[^\\]]*\\]|[^\\s(,\"`\\[])+)",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+	);
+
+	private static final Statement UNKNOWN = new Statement( null, null );
+
+	/**
+	 * Maps each table to the set of tables it has a foreign key to.
+	 */
+	private final Map<String, Set<String>> references;
+
+	private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+
+	ForeignKeyStatementOrdering(MetadataImplementor metadata, JdbcEnvironment jdbcEnvironment) {
+		final Dialect dialect = jdbcEnvironment.getDialect();
+		final Map<String, Set<String>> references = new HashMap<>();
+		for ( Table table : metadata.collectTableMappings() ) {
+			if ( table.isSubselect() ) {
+				continue;
+			}
+			final String tableName = tableName( table, jdbcEnvironment, dialect );
+			final Set<String> referencedTables = references.computeIfAbsent( tableName, name -> new HashSet<>() );
+			Iterator<ForeignKey> foreignKeys = table.getForeignKeyIterator();
+			while ( foreignKeys.hasNext() ) {
+				Table referencedTable = foreignKeys.next().getReferencedTable();
+				if ( referencedTable != null && !referencedTable.isSubselect() ) {
+					referencedTables.add( tableName( referencedTable, jdbcEnvironment, dialect ) );
+				}
+			}
+		}
+		this.references = references;
+	}
+
+	/**
+	 * @return the ordering for the given factory, or an ordering which
+	 *         never allows statements to be reordered if the factory
+	 *         isn't a {@link ReactiveSessionFactoryImpl}
+	 */
+	static BatchingConnection.StatementOrdering forFactory(SessionFactoryImplementor factory) {
+		return factory instanceof ReactiveSessionFactoryImpl
+				? ( (ReactiveSessionFactoryImpl) factory ).getStatementOrdering()
+				: BatchingConnection.StatementOrdering.STRICT;
+	}
+
+	@Override
+	public boolean mayPrecede(String sql, String earlierSql) {
+		final Statement statement = statement( sql );
+		final Statement earlier = statement( earlierSql );
+		if ( statement == UNKNOWN || earlier == UNKNOWN || statement.table.equals( earlier.table ) ) {
+			return false;
+		}
+		if ( statement.isInsert() && earlier.isInsert() ) {
+			// the row we're inserting might reference the earlier row
+			return !references( statement.table, earlier.table );
+		}
+		else if ( statement.isDelete() && earlier.isDelete() ) {
+			// the earlier row might reference the row we're deleting
+			return !references( earlier.table, statement.table );
+		}
+		else {
+			return !references( statement.table, earlier.table )
+					&& !references( earlier.table, statement.table );
+		}
+	}
+
+	private boolean references(String table, String referencedTable) {
+		Set<String> referencedTables = references.get( table );
+		// if we don't know the table, be conservative
+		return referencedTables == null || referencedTables.contains( referencedTable );
+	}
+
+	private Statement statement(String sql) {
+		return statements.computeIfAbsent( sql, ForeignKeyStatementOrdering::parse );
+	}
+
+	private static Statement parse(String sql) {
+		Matcher matcher = STATEMENT.matcher( sql );
+		return matcher.find()
+				? new Statement( matcher.group( 1 ).substring( 0, 1 ).toLowerCase( Locale.ROOT ), normalize( matcher.group( 2 ) ) )
+				: UNKNOWN;
+	}
+
+	private static String tableName(Table table, JdbcEnvironment jdbcEnvironment, Dialect dialect) {
+		return normalize( jdbcEnvironment.getQualifiedObjectNameFormatter()
+				.format( table.getQualifiedTableName(), dialect ) );
+	}
+
+	private static String normalize(String tableName) {
+		StringBuilder normalized = new StringBuilder( tableName.length() );
+		for ( int i = 0; i < tableName.length(); i++ ) {
+			char c = tableName.charAt( i );
+			if ( c != '"' && c != '`' && c != '[' && c != ']' ) {
+				normalized.append( Character.toLowerCase( c ) );
+			}
+		}
+		return normalized.toString();
+	}
+
+	private static final class Statement {
+		final String kind;
+		final String table;
+
+		Statement(String kind, String table) {
+			this.kind = kind;
+			this.table = table;
+		}
+
+		boolean isInsert() {
+			return "i".equals( kind );
+		}
+
+		boolean isDelete() {
+			return "d".equals( kind );
+		}
+	}
+}
@@ -0,0 +1,408 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrites an HQL query to obtain a {@link KeyedPage} of results, by
+ * adding a restriction on the key of the page, and ordering by the
+ * elements of the key, and then packages the results as a
+ * {@link KeyedResultList}.
+ */
+final class KeysetPagination {
+
+	private static final String KEY_PARAMETER_PREFIX = "keysetValue";
+
+	/**
+	 * Keywords which may follow the root entity of a {@code from}
+	 * clause, and so aren't its alias.
+	 */
+	private static final Set<String> NOT_ALIASES = new HashSet<>( Arrays.asList(
+			"where", "join", "inner", "left", "right", "full", "cross", "fetch", "group", "order", "having"
+	) );
+
+	private KeysetPagination() {
+	}
+
+	/**
+	 * Add the keyset restriction and {@code order by} clause to the
+	 * given HQL, which must not already have an {@code order by}.
+	 */
+	static String rewrite(String hql, KeyedPage page) {
+		int where = -1;
+		int endOfWhere = hql.length();
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = 0; i < hql.length(); i++ ) {
+			final char ch = hql.charAt( i );
+			if ( ch == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( ch == '(' ) {
+					depth++;
+				}
+				else if ( ch == ')' ) {
+					depth--;
+				}
+				else if ( depth == 0 ) {
+					if ( where < 0 && isKeyword( hql, i, "where" ) ) {
+						where = i;
+					}
+					else if ( endOfWhere == hql.length()
+							&& ( isKeywordFollowedByBy( hql, i, "group" ) || isKeyword( hql, i, "having" ) ) ) {
+						endOfWhere = i;
+					}
+					else if ( isKeywordFollowedByBy( hql, i, "order" ) ) {
+						throw new IllegalArgumentException(
+								"query has an 'order by' clause, but keyset pagination orders by the key"
+						);
+					}
+				}
+			}
+		}
+
+		final StringBuilder result = new StringBuilder();
+		if ( page.isFirst() ) {
+			result.append( hql );
+		}
+		else if ( where < 0 ) {
+			result.append( hql, 0, endOfWhere )
+					.append( " where " ).append( restriction( page ) ).append( ' ' )
+					.append( hql, endOfWhere, hql.length() );
+		}
+		else {
+			final int startOfRestriction = where + "where".length();
+			result.append( hql, 0, startOfRestriction )
+					.append( " (" ).append( hql, startOfRestriction, endOfWhere ).append( ") and " )
+					.append( restriction( page ) ).append( ' ' )
+					.append( hql, endOfWhere, hql.length() );
+		}
+		result.append( " order by " );
+		final List<String> keys = page.getKeys();
+		for ( int i = 0; i < keys.size(); i++ ) {
+			if ( i > 0 ) {
+				result.append( ", " );
+			}
+			result.append( keys.get( i ) ).append( page.isBackward() ? " desc" : " asc" );
+		}
+		return result.toString();
+	}
+
+	/**
+	 * A restriction of form {@code k1 > :v1 or (k1 = :v1 and k2 > :v2)
+	 * or ...}, since a row value comparison isn't portable.
+	 */
+	private static String restriction(KeyedPage page) {
+		final String comparison = page.isBackward() ? " < :" : " > :";
+		final List<String> keys = page.getKeys();
+		final StringBuilder restriction = new StringBuilder( "(" );
+		for ( int i = 0; i < keys.size(); i++ ) {
+			if ( i > 0 ) {
+				restriction.append( " or " );
+			}
+			restriction.append( '(' );
+			for ( int j = 0; j < i; j++ ) {
+				restriction.append( keys.get( j ) ).append( " = :" ).append( KEY_PARAMETER_PREFIX ).append( j )
+						.append( " and " );
+			}
+			restriction.append( keys.get( i ) ).append( comparison ).append( KEY_PARAMETER_PREFIX ).append( i )
+					.append( ')' );
+		}
+		return restriction.append( ')' ).toString();
+	}
+
+	/**
+	 * The alias of the root entity of the given HQL, that is, of the
+	 * first entity in its top-level {@code from} clause, or null if the
+	 * root entity has no alias.
+	 */
+	static String rootAlias(String hql) {
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = 0; i < hql.length(); i++ ) {
+			final char ch = hql.charAt( i );
+			if ( ch == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( ch == '(' ) {
+					depth++;
+				}
+				else if ( ch == ')' ) {
+					depth--;
+				}
+				else if ( depth == 0 && isKeyword( hql, i, "from" ) ) {
+					// skip the entity name, and the optional 'as'
+					int start = skipWhitespace( hql, i + "from".length() );
+					start = skipWhitespace( hql, skipIdentifier( hql, start ) );
+					if ( isKeyword( hql, start, "as" ) ) {
+						start = skipWhitespace( hql, start + "as".length() );
+					}
+					final String alias = hql.substring( start, skipIdentifier( hql, start ) );
+					return alias.isEmpty() || NOT_ALIASES.contains( alias.toLowerCase( Locale.ROOT ) ) ? null : alias;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static int skipWhitespace(String hql, int index) {
+		while ( index < hql.length() && Character.isWhitespace( hql.charAt( index ) ) ) {
+			index++;
+		}
+		return index;
+	}
+
+	private static int skipIdentifier(String hql, int index) {
+		while ( index < hql.length()
+				&& ( Character.isJavaIdentifierPart( hql.charAt( index ) ) || hql.charAt( index ) == '.' ) ) {
+			index++;
+		}
+		return index;
+	}
+
+	private static boolean isKeyword(String hql, int index, String keyword) {
+		final int end = index + keyword.length();
+		return hql.regionMatches( true, index, keyword, 0, keyword.length() )
+				&& ( index == 0 || !Character.isJavaIdentifierPart( hql.charAt( index - 1 ) ) )
+				&& ( end == hql.length() || !Character.isJavaIdentifierPart( hql.charAt( end ) ) );
+	}
+
+	private static boolean isKeywordFollowedByBy(String hql, int index, String keyword) {
+		if ( !isKeyword( hql, index, keyword ) ) {
+			return false;
+		}
+		int next = index + keyword.length();
+		while ( next < hql.length() && Character.isWhitespace( hql.charAt( next ) ) ) {
+			next++;
+		}
+		return next > index + keyword.length() && isKeyword( hql, next, "by" );
+	}
+
+	/**
+	 * Obtain the persister for the entity returned by the query, which
+	 * must return a single entity.
+	 */
+	static EntityPersister resultPersister(Type[] returnTypes, SessionFactoryImplementor factory) {
+		if ( returnTypes == null || returnTypes.length != 1 || !returnTypes[0].isEntityType() ) {
+			throw new IllegalArgumentException( "keyset pagination requires a query which returns a single entity" );
+		}
+		final String entityName = ( (EntityType) returnTypes[0] ).getAssociatedEntityName();
+		return factory.getMetamodel().entityPersister( entityName );
+	}
+
+	/**
+	 * Bind the values of the key, and limit the results to one more
+	 * than the page size, so that we know if there's another page.
+	 * The type of each value is the type of the property it belongs to.
+	 * The elements of the key are checked even for the first page.
+	 */
+	static void bind(QueryParameters queryParameters, KeyedPage page, EntityPersister persister, String alias) {
+		final Map<String, TypedValue> namedParameters = queryParameters.getNamedParameters() == null
+				? new HashMap<>()
+				: new HashMap<>( queryParameters.getNamedParameters() );
+		final List<String> keys = page.getKeys();
+		final List<Object> keyValues = page.getKeyValues();
+		for ( int i = 0; i < keys.size(); i++ ) {
+			final Type type = resolve( persister, alias, null, keys.get( i ), null ).getType();
+			if ( !page.isFirst() ) {
+				final Object value = keyValues.get( i );
+				if ( value == null ) {
+					throw new IllegalArgumentException( "null value for key: " + keys.get( i ) );
+				}
+				namedParameters.put( KEY_PARAMETER_PREFIX + i, new TypedValue( type, value ) );
+			}
+		}
+		queryParameters.setNamedParameters( namedParameters );
+
+		final RowSelection original = queryParameters.getRowSelection();
+		final RowSelection selection = new RowSelection();
+		selection.setMaxRows( page.getSize() + 1 );
+		if ( original != null ) {
+			selection.setFetchSize( original.getFetchSize() );
+			selection.setTimeout( original.getTimeout() );
+		}
+		queryParameters.setRowSelection( selection );
+	}
+
+	/**
+	 * Trim the extra result, put the results back in order if the page
+	 * was fetched backward, and determine the next and previous pages.
+	 */
+	static <R> KeyedResultList<R> resultList(
+			List<R> list,
+			KeyedPage page,
+			EntityPersister persister,
+			String alias,
+			SharedSessionContractImplementor session) {
+		final boolean more = list.size() > page.getSize();
+		final List<R> results = new ArrayList<>( more ? list.subList( 0, page.getSize() ) : list );
+		if ( page.isBackward() ) {
+			Collections.reverse( results );
+		}
+
+		final KeyedPage nextPage;
+		final KeyedPage previousPage;
+		if ( results.isEmpty() ) {
+			nextPage = page.isBackward() ? page.after( page.getKeyValues().toArray() ) : null;
+			previousPage = page.isBackward() || page.isFirst() ? null : page.before( page.getKeyValues().toArray() );
+		}
+		else {
+			final Object[] firstKey = keyOf( results.get( 0 ), page.getKeys(), persister, alias, session );
+			final Object[] lastKey = keyOf( results.get( results.size() - 1 ), page.getKeys(), persister, alias, session );
+			if ( page.isBackward() ) {
+				nextPage = page.after( lastKey );
+				previousPage = more ? page.before( firstKey ) : null;
+			}
+			else {
+				nextPage = more ? page.after( lastKey ) : null;
+				previousPage = page.isFirst() ? null : page.before( firstKey );
+			}
+		}
+		return new KeyedResultList<>( results, nextPage, previousPage );
+	}
+
+	private static Object[] keyOf(
+			Object result,
+			List<String> keys,
+			EntityPersister persister,
+			String alias,
+			SharedSessionContractImplementor session) {
+		final Object[] key = new Object[keys.size()];
+		for ( int i = 0; i < key.length; i++ ) {
+			key[i] = resolve( persister, alias, result, keys.get( i ), session ).getValue();
+		}
+		return key;
+	}
+
+	/**
+	 * Resolve an element of the key, a path through the properties of
+	 * the entity, of its components, and of its associated entities, to
+	 * the type of the property it names and, if an entity is given, to
+	 * the value of that property for the entity. An element qualified
+	 * by the alias of the entity, for example, {@code book.title}, is
+	 * interpreted as the unqualified property. An element qualified by
+	 * any other alias, for example, the alias of a joined entity, is
+	 * rejected.
+	 */
+	private static TypedValue resolve(
+			EntityPersister persister,
+			String alias,
+			Object entity,
+			String key,
+			SharedSessionContractImplementor session) {
+		String path = key;
+		final int dot = path.indexOf( '.' );
+		if ( dot > 0 ) {
+			final String qualifier = path.substring( 0, dot );
+			if ( qualifier.equals( alias ) ) {
+				path = path.substring( dot + 1 );
+			}
+			else if ( !isProperty( persister, qualifier ) ) {
+				throw new IllegalArgumentException(
+						"'" + qualifier + "' is neither the alias nor a property of the entity "
+								+ persister.getEntityName() + " returned by the query in key: " + key
+				);
+			}
+		}
+
+		EntityPersister owner = persister;
+		Type type = null;
+		Object value = entity;
+		for ( String name : path.split( "\\." ) ) {
+			if ( owner != null ) {
+				if ( name.equals( owner.getIdentifierPropertyName() ) ) {
+					type = owner.getIdentifierType();
+					if ( value != null ) {
+						value = value instanceof HibernateProxy
+								? ( (HibernateProxy) value ).getHibernateLazyInitializer().getIdentifier()
+								: owner.getIdentifier( value, session );
+					}
+				}
+				else {
+					if ( value != null ) {
+						value = initialized( value, key );
+						owner = session.getEntityPersister( owner.getEntityName(), value );
+					}
+					if ( !isProperty( owner, name ) ) {
+						throw new IllegalArgumentException(
+								"no property named '" + name + "' of entity " + owner.getEntityName() + " in key: " + key
+						);
+					}
+					type = owner.getPropertyType( name );
+					if ( value != null ) {
+						value = owner.getPropertyValue( value, name );
+					}
+				}
+			}
+			else if ( type != null && type.isComponentType() ) {
+				final CompositeType component = (CompositeType) type;
+				final int index = Arrays.asList( component.getPropertyNames() ).indexOf( name );
+				if ( index < 0 ) {
+					throw new IllegalArgumentException( "no property named '" + name + "' in key: " + key );
+				}
+				type = component.getSubtypes()[index];
+				if ( value != null ) {
+					value = component.getPropertyValue( value, index, session );
+				}
+			}
+			else {
+				throw new IllegalArgumentException( "property '" + name + "' can't be dereferenced in key: " + key );
+			}
+
+			if ( type.isCollectionType() ) {
+				throw new IllegalArgumentException( "key may not refer to a collection: " + key );
+			}
+			owner = type.isEntityType()
+					? persister.getFactory().getMetamodel()
+							.entityPersister( ( (EntityType) type ).getAssociatedEntityName() )
+					: null;
+		}
+		return new TypedValue( type, value );
+	}
+
+	private static Object initialized(Object entity, String key) {
+		if ( entity instanceof HibernateProxy ) {
+			final LazyInitializer initializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			if ( initializer.isUninitialized() ) {
+				throw new IllegalArgumentException(
+						"association must be fetched by the query to obtain the value of key: " + key
+				);
+			}
+			return initializer.getImplementation();
+		}
+		return entity;
+	}
+
+	private static boolean isProperty(EntityPersister persister, String name) {
+		return name.equals( persister.getIdentifierPropertyName() )
+				|| persister.getEntityMetamodel().getPropertyIndexOrNull( name ) != null;
+	}
+}
@@ -18,14 +18,19 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * A reactific {@link HQLQueryPlan}
@@ -117,21 +122,131 @@ public CompletionStage<List<T>> performReactiveList(QueryParameters queryParamet
 		final IdentitySet distinction = needsLimit ? new IdentitySet(guessedResultSize) : null;
 
 		AtomicInteger includedCount = new AtomicInteger();
+		final Consumer<List<T>> combiner = tmpList -> {
+			if ( needsLimit ) {
+				needsLimitLoop( queryParameters, combinedResults, distinction, includedCount, tmpList );
+			}
+			else {
+				combinedResults.addAll( tmpList );
+			}
+		};
+
+		if ( isPipelined( session ) ) {
+			// send every query before the results of the first
+			// query arrive, and then hydrate the results of each
+			// query in turn, in the same order as below
+			final List<Supplier<CompletionStage<List<T>>>> results = new ArrayList<>( translators.length );
+			try {
+				for ( QueryTranslator translator : translators ) {
+					results.add( translator( translator ).deferredReactiveList( session, queryParametersToUse ) );
+				}
+			}
+			catch (HibernateException he) {
+				return CompletionStages.failedFuture( he );
+			}
+			return CompletionStages.loop( results, result -> result.get().thenAccept( combiner ) )
+					.thenApply( v -> combinedResults );
+		}
+
 		return CompletionStages.loop(
 				translators,
 				translator -> translator( translator )
 						.reactiveList( session, queryParametersToUse )
-						.thenAccept( tmpList -> {
-							if ( needsLimit ) {
-								needsLimitLoop( queryParameters, combinedResults, distinction, includedCount, tmpList );
-							}
-							else {
-								combinedResults.addAll( tmpList );
-							}
-						} )
+						.thenAccept( combiner )
 		).thenApply( v -> combinedResults );
 	}
 
+	private static boolean isPipelined(SharedSessionContractImplementor session) {
+		return session instanceof ReactiveConnectionSupplier
+				&& ( (ReactiveConnectionSupplier) session ).getReactiveConnection().isPipelined();
+	}
+
+	/**
+	 * Return a cursor over the results of the query. When the query
+	 * is polymorphic, and has multiple translators, the results of
+	 * each translator are read in turn, unless a limit is specified,
+	 * in which case the limit is applied in memory, and the results
+	 * are not streamed.
+	 *
+	 * @see #performReactiveList(QueryParameters, SharedSessionContractImplementor)
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> performReactiveListCursor(QueryParameters queryParameters,
+																				   SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Find (cursor): {0}", getSourceQuery() );
+			queryParameters.traceParameters( session.getFactory() );
+		}
+
+		final QueryTranslator[] translators = getTranslators();
+
+		//fast path to avoid unnecessary allocation and copying
+		if ( translators.length == 1 ) {
+			return translator( translators[0] ).reactiveListCursor( session, queryParameters );
+		}
+
+		final RowSelection rowSelection = queryParameters.getRowSelection();
+		if ( rowSelection != null && rowSelection.definesLimits() ) {
+			return performReactiveList( queryParameters, session ).thenApply( ReactiveResultCursor::of );
+		}
+
+		return CompletionStages.completedFuture( new SequentialCursor( translators, queryParameters, session ) );
+	}
+
+	/**
+	 * A cursor which reads the results of each translator in turn.
+	 */
+	private class SequentialCursor implements ReactiveResultCursor<T> {
+		private final QueryTranslator[] translators;
+		private final QueryParameters queryParameters;
+		private final SharedSessionContractImplementor session;
+		private int index;
+		private ReactiveResultCursor<T> current;
+
+		SequentialCursor(QueryTranslator[] translators,
+						 QueryParameters queryParameters,
+						 SharedSessionContractImplementor session) {
+			this.translators = translators;
+			this.queryParameters = queryParameters;
+			this.session = session;
+		}
+
+		@Override
+		public CompletionStage<List<T>> next() {
+			if ( current == null ) {
+				if ( index >= translators.length ) {
+					return CompletionStages.completedFuture( Collections.emptyList() );
+				}
+				return translator( translators[index++] )
+						.reactiveListCursor( session, queryParameters )
+						.thenCompose( cursor -> {
+							current = cursor;
+							return next();
+						} );
+			}
+			return current.next()
+					.thenCompose( list -> {
+						if ( list.isEmpty() ) {
+							ReactiveResultCursor<T> exhausted = current;
+							current = null;
+							return exhausted.close().thenCompose( v -> next() );
+						}
+						return CompletionStages.completedFuture( list );
+					} );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			index = translators.length;
+			if ( current == null ) {
+				return CompletionStages.voidFuture();
+			}
+			ReactiveResultCursor<T> open = current;
+			current = null;
+			return open.close();
+		}
+	}
+
 	private void needsLimitLoop(QueryParameters queryParameters,
 								List<T> combinedResults,
 								IdentitySet distinction,
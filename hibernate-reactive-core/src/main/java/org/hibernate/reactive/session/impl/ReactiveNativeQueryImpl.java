@@ -16,18 +16,23 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.NativeQueryImpl;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.session.ReactiveQuery.convertQueryException;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResult;
+import static org.hibernate.reactive.session.impl.SessionUtil.fetchAll;
 
 /**
  *  Implementation of {@link ReactiveNativeQuery} by extension of
@@ -37,6 +42,8 @@
  */
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R> implements ReactiveNativeQuery<R> {
 
+	private final List<String> fetchAllAssociationPaths = new ArrayList<>();
+
 	public ReactiveNativeQueryImpl(
 			NamedSQLQueryDefinition queryDef,
 			SharedSessionContractImplementor session,
@@ -96,10 +103,20 @@ public CompletionStage<List<R>> getReactiveResultList() {
 		beforeQuery();
 		return reactiveProducer()
 				.<R>reactiveList( generateQuerySpecification(), getQueryParameters() )
+				.thenCompose( list -> fetchAll( reactiveProducer(), list, fetchAllAssociationPaths ) )
 				.whenComplete( (list, err) -> afterQuery() )
 				.handle( (list, error) -> convertQueryException( list, error, this ) );
 	}
 
+	/**
+	 * Native queries are not executed using a cursor, and so the
+	 * returned cursor is backed by the complete list of results.
+	 */
+	@Override
+	public CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor() {
+		return getReactiveResultList().thenApply( ReactiveResultCursor::of );
+	}
+
 	private NativeSQLQuerySpecification generateQuerySpecification() {
 		return new NativeSQLQuerySpecification(
 				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
@@ -136,6 +153,12 @@ public ReactiveNativeQueryImpl<R> setMaxResults(int maxResults) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> setFirstResult(int firstResult) {
 		super.setFirstResult(firstResult);
@@ -217,4 +240,15 @@ public ReactiveNativeQueryImpl<R> setQuerySpaces(String[] querySpaces) {
 		super.addQuerySpaces(querySpaces);
 		return this;
 	}
+
+	@Override
+	public CompletionStage<KeyedResultList<R>> getReactiveKeyedResultList(KeyedPage page) {
+		throw new UnsupportedOperationException( "keyset pagination is not supported for native queries" );
+	}
+
+	@Override
+	public ReactiveNativeQueryImpl<R> addFetchAll(String associationPath) {
+		fetchAllAssociationPaths.add( associationPath );
+		return this;
+	}
 }
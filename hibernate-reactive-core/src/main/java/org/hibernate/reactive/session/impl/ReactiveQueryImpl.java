@@ -15,16 +15,21 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.criteria.internal.compile.ExplicitParameterInfo;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.QueryImpl;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
 import javax.persistence.criteria.ParameterExpression;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +38,7 @@
 import static java.util.Collections.emptyMap;
 import static org.hibernate.reactive.session.ReactiveQuery.convertQueryException;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResult;
+import static org.hibernate.reactive.session.impl.SessionUtil.fetchAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
@@ -49,6 +55,7 @@
 	private EntityGraphQueryHint entityGraphQueryHint;
 	private Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap;
 	private final QueryType type;
+	private final List<String> fetchAllAssociationPaths = new ArrayList<>();
 
 	private static QueryType queryType(String queryString) {
 		queryString = queryString.trim().toLowerCase();
@@ -105,10 +112,66 @@ public CompletionStage<List<R>> getReactiveResultList() {
 		}
 		beforeQuery();
 		return doReactiveList()
+				.thenCompose( list -> fetchAll( reactiveProducer(), list, fetchAllAssociationPaths ) )
 				.whenComplete( (list, err) -> afterQuery() )
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultCursor<R>> getReactiveResultCursor() {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		if ( getMaxResults() == 0 ) {
+			return completedFuture( ReactiveResultCursor.of( Collections.emptyList() ) );
+		}
+		beforeQuery();
+		String expanded = expandedQuery();
+		return reactiveProducer()
+				.<R>reactiveCursor( expanded, makeReactiveQueryParametersForExecution(expanded) )
+				.whenComplete( (cursor, err) -> {
+					if ( err != null ) {
+						afterQuery();
+					}
+				} )
+				.handle( (cursor, error) -> convertQueryException( cursor, error, this ) )
+				.thenApply( cursor -> new ReactiveResultCursor<R>() {
+					@Override
+					public CompletionStage<List<R>> next() {
+						return cursor.next()
+								.handle( (list, error) -> convertQueryException( list, error, ReactiveQueryImpl.this ) );
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return cursor.close().whenComplete( (v, err) -> afterQuery() );
+					}
+				} );
+	}
+
+	@Override
+	public CompletionStage<KeyedResultList<R>> getReactiveKeyedResultList(KeyedPage page) {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		// validate the page before calling beforeQuery(), so that an
+		// invalid page doesn't leave the query's flush and cache modes
+		// in effect for the session
+		EntityPersister persister = KeysetPagination.resultPersister( getReturnTypes(), getProducer().getFactory() );
+		String expanded = expandedQuery();
+		String alias = KeysetPagination.rootAlias( expanded );
+		String keyed = KeysetPagination.rewrite( expanded, page );
+		QueryParameters queryParameters = makeReactiveQueryParametersForExecution( keyed );
+		KeysetPagination.bind( queryParameters, page, persister, alias );
+		beforeQuery();
+		return reactiveProducer()
+				.<R>reactiveList( keyed, queryParameters )
+				.thenCompose( list -> fetchAll( reactiveProducer(), list, fetchAllAssociationPaths ) )
+				.thenApply( list -> KeysetPagination.resultList( list, page, persister, alias, getProducer() ) )
+				.whenComplete( (list, err) -> afterQuery() )
+				.handle( (list, error) -> convertQueryException( list, error, this ) );
+	}
+
 	private CompletionStage<List<R>> doReactiveList() {
 		if ( getMaxResults() == 0 ) {
 			return completedFuture( Collections.emptyList() );
@@ -210,6 +273,12 @@ public ReactiveQueryImpl<R> setMaxResults(int maxResults) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setFetchSize(int fetchSize) {
+		super.setFetchSize(fetchSize);
+		return this;
+	}
+
 	@Override
 	public ReactiveQueryImpl<R> setFirstResult(int firstResult) {
 		super.setFirstResult(firstResult);
@@ -307,4 +376,10 @@ public ReactiveQueryImpl<R> setCacheRegion(String cacheRegion) {
 	public ReactiveQuery<R> setQuerySpaces(String[] querySpaces) {
 		throw new UnsupportedOperationException();
 	}
+
+	@Override
+	public ReactiveQueryImpl<R> addFetchAll(String associationPath) {
+		fetchAllAssociationPaths.add( associationPath );
+		return this;
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
@@ -36,6 +37,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import org.jboss.logging.Logger;
@@ -169,6 +171,45 @@ public CompletionStage<List<T>> reactiveList(SharedSessionContractImplementor se
 				} );
 	}
 
+	/**
+	 * Send the query to the database immediately, returning a
+	 * {@link Supplier} which hydrates the results when called, so
+	 * that several queries may be sent before any results arrive.
+	 * Since queries with collection fetches may need to be
+	 * distincted or paginated in memory, they're only sent when
+	 * the {@code Supplier} is called.
+	 *
+	 * @see #reactiveList
+	 */
+	public Supplier<CompletionStage<List<T>>> deferredReactiveList(SharedSessionContractImplementor session,
+																   QueryParameters queryParameters)
+			throws HibernateException {
+		errorIfDML();
+
+		if ( containsCollectionFetches() ) {
+			return () -> reactiveList( session, queryParameters );
+		}
+		return queryLoader.deferredReactiveList( session, queryParameters );
+	}
+
+	/**
+	 * Return a cursor over the results of the query, which are fetched
+	 * and hydrated in chunks. Since the rows belonging to a fetched
+	 * collection might span chunks, queries with collection fetches
+	 * are executed via {@link #reactiveList} instead.
+	 */
+	public CompletionStage<ReactiveResultCursor<T>> reactiveListCursor(SharedSessionContractImplementor session,
+																	  QueryParameters queryParameters)
+			throws HibernateException {
+		errorIfDML();
+
+		if ( containsCollectionFetches() ) {
+			return reactiveList( session, queryParameters ).thenApply( ReactiveResultCursor::of );
+		}
+
+		return queryLoader.reactiveListCursor( session, queryParameters );
+	}
+
 	/**
 	 * The reactive version of
 	 * {@link QueryTranslatorImpl#executeUpdate(QueryParameters, SharedSessionContractImplementor)}.
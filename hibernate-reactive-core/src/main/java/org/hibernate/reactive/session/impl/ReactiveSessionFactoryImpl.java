@@ -10,6 +10,7 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
 import org.hibernate.type.LocalDateTimeType;
@@ -29,9 +30,14 @@
  * {@link Mutiny.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
+
+	private final BatchingConnection.StatementOrdering statementOrdering;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
 		super( metadata, options, ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
 
+		statementOrdering = new ForeignKeyStatementOrdering( metadata, getJdbcServices().getJdbcEnvironment() );
+
 		Map<Integer, Set<String>> contributions =
 				getMetamodel().getTypeConfiguration().getJdbcToHibernateTypeContributionMap();
 		//override the default type mappings for temporal types to return java.time instead of java.sql
@@ -42,6 +48,14 @@ public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOp
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
 	}
 
+	/**
+	 * @return the {@link BatchingConnection.StatementOrdering} determined
+	 *         by the foreign keys between the mapped tables
+	 */
+	public BatchingConnection.StatementOrdering getStatementOrdering() {
+		return statementOrdering;
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom(Stage.SessionFactory.class) ) {
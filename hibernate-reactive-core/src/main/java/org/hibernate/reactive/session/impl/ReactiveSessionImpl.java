@@ -6,6 +6,11 @@
 package org.hibernate.reactive.session.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +24,7 @@
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
 import org.hibernate.LazyInitializationException;
@@ -35,6 +41,9 @@
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -70,6 +79,7 @@
 import org.hibernate.jpa.spi.CriteriaQueryTupleTransformer;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.custom.sql.SQLCustomQuery;
+import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.pretty.MessageHelper;
@@ -79,6 +89,7 @@
 import org.hibernate.reactive.common.InternalStateAssertions;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.engine.impl.ForeignKeys;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveDeleteEventListener;
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
@@ -90,6 +101,7 @@
 import org.hibernate.reactive.event.ReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveInitializeCollectionEventListener;
+import org.hibernate.reactive.loader.collection.impl.ReactiveDynamicBatchingCollectionInitializerBuilder;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
@@ -98,15 +110,20 @@
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
 
 import io.vertx.core.Context;
 
 import static org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
@@ -136,7 +153,7 @@ public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions o
 		//matches configuration property "hibernate.jdbc.batch_size" :
 		int batchSize = delegate.getSessionFactoryOptions().getJdbcBatchSize();
 		reactiveConnection = batchSize<2 ? connection :
-				new BatchingConnection( connection, batchSize );
+				new BatchingConnection( connection, batchSize, ForeignKeyStatementOrdering.forFactory( delegate ) );
 	}
 
 	@Override
@@ -278,6 +295,82 @@ public <E,T> CompletionStage<T> reactiveFetch(E entity, Attribute<E,T> field) {
 				.reactiveInitializeLazyProperty( field, entity, this );
 	}
 
+	@Override
+	public <E> CompletionStage<Void> reactiveFetchAll(Collection<? extends E> owners, Attribute<E,?> association) {
+		return reactiveFetchAll( owners, association.getName() );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveFetchAll(Collection<?> owners, String name) {
+		checkOpen();
+		// uninitialized proxies, by entity name and then by id
+		final Map<String, Map<Serializable, LazyInitializer>> proxies = new LinkedHashMap<>();
+		// keys of uninitialized collections, by collection persister
+		final Map<QueryableCollection, List<Serializable>> collectionKeys = new LinkedHashMap<>();
+		// collections which don't belong to this session
+		final List<PersistentCollection> detachedCollections = new ArrayList<>();
+		for ( Object owner : owners ) {
+			if ( owner == null ) {
+				continue;
+			}
+			final Object value = getEntityPersister( null, owner ).getPropertyValue( owner, name );
+			if ( value instanceof HibernateProxy ) {
+				final LazyInitializer initializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					proxies.computeIfAbsent( initializer.getEntityName(), entityName -> new LinkedHashMap<>() )
+							.putIfAbsent( initializer.getIdentifier(), initializer );
+				}
+			}
+			else if ( value instanceof PersistentCollection ) {
+				final PersistentCollection collection = (PersistentCollection) value;
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry entry = getPersistenceContextInternal().getCollectionEntry( collection );
+					if ( entry == null || entry.getLoadedKey() == null ) {
+						detachedCollections.add( collection );
+					}
+					else {
+						collectionKeys.computeIfAbsent(
+								(QueryableCollection) entry.getLoadedPersister(),
+								persister -> new ArrayList<>()
+						).add( entry.getLoadedKey() );
+					}
+				}
+			}
+		}
+
+		return loop( proxies.entrySet(), entry -> fetchProxies( entry.getKey(), entry.getValue() ) )
+				.thenCompose( v -> loop( collectionKeys.entrySet(),
+						entry -> ReactiveDynamicBatchingCollectionInitializerBuilder.INSTANCE.multiLoad(
+								entry.getKey(),
+								entry.getValue().toArray( new Serializable[0] ),
+								this
+						)
+				) )
+				.thenCompose( v -> loop( detachedCollections, collection -> reactiveFetch( collection, false ) ) );
+	}
+
+	/**
+	 * Load the entities with the given ids in batches, and use them to
+	 * initialize the given proxies.
+	 */
+	private CompletionStage<Void> fetchProxies(String entityName, Map<Serializable, LazyInitializer> proxies) {
+		final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+		return new ReactiveMultiIdentifierLoadAccessImpl<>( persister )
+				.multiLoad( proxies.keySet().toArray() )
+				.thenAccept( entities -> {
+					int i = 0;
+					for ( LazyInitializer initializer : proxies.values() ) {
+						final Object entity = entities.get( i++ );
+						// the loader might already have initialized the proxy
+						if ( initializer.isUninitialized() ) {
+							checkEntityFound( this, initializer.getEntityName(), initializer.getIdentifier(), entity );
+							initializer.setSession( this );
+							initializer.setImplementation( entity );
+						}
+					}
+				} );
+	}
+
 	@Override
 	public <T> ReactiveNativeQueryImpl<T> createReactiveNativeQuery(String sqlString) {
 		checkOpen();
@@ -445,6 +538,38 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 				} );
 	}
 
+	@Override
+	public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		ReactiveHQLQueryPlan<T> reactivePlan = getReactivePlan( query, parameters );
+		return reactiveAutoFlushIfRequired( reactivePlan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.performReactiveListCursor( parameters, this ) )
+				.whenComplete( (cursor, x) -> {
+					if ( x != null ) {
+						afterOperation( false );
+						delayedAfterCompletion();
+					}
+				} )
+				.thenApply( cursor -> new ReactiveResultCursor<T>() {
+					@Override
+					public CompletionStage<List<T>> next() {
+						return cursor.next();
+					}
+
+					@Override
+					public CompletionStage<Void> close() {
+						return cursor.close()
+								.whenComplete( (v, x) -> {
+									afterOperation( x == null );
+									delayedAfterCompletion();
+								} );
+					}
+				} );
+	}
+
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
@@ -661,7 +786,18 @@ public void addBulkCleanupAction(BulkOperationCleanupAction action) {
 	@Override
 	public CompletionStage<Void> reactivePersist(Object entity) {
 		checkOpen();
-		return firePersist( new PersistEvent( null, entity, this ) );
+		// determine whether any detached instances referenced by the
+		// entity graph exist in the database, using one query per
+		// entity type, before the cascade checks them one by one
+		return ForeignKeys.resolveTransientReferences( new Object[] { entity }, CascadingActions.PERSIST, this )
+				.thenCompose( v -> firePersist( new PersistEvent( null, entity, this ) ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		return ForeignKeys.resolveTransientReferences( entities, CascadingActions.PERSIST, this )
+				.thenCompose( v -> applyToAll( entity -> firePersist( new PersistEvent( null, entity, this ) ), entities ) );
 	}
 
 	@Override
@@ -820,6 +956,95 @@ public CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlr
 		return fireMerge( copiedAlready, new MergeEvent( null, object, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveMergeAll(Object... entities) {
+		checkOpen();
+		return prefetchForMerge( entities )
+				.thenCompose( v -> applyToAll( this::reactiveMerge, entities ) );
+	}
+
+	/**
+	 * Load the persistent instances of the given detached entities, and
+	 * of the detached entities reachable from them via associations which
+	 * cascade merge, using one query per batch of ids of each entity type,
+	 * so that each merge finds its persistent instance in the persistence
+	 * context instead of loading it with a query of its own. Collections
+	 * which cascade merge are fetched too, since merge() would otherwise
+	 * fetch them one owner at a time.
+	 */
+	private CompletionStage<Void> prefetchForMerge(Object... entities) {
+		final Map<EntityPersister, Set<Serializable>> idsByPersister = new LinkedHashMap<>();
+		final IdentitySet visited = new IdentitySet();
+		for ( Object entity : entities ) {
+			collectIdsForMerge( entity, idsByPersister, visited );
+		}
+		// there's nothing to gain from batching a single id
+		return loop(
+				idsByPersister.entrySet(),
+				entry -> entry.getValue().size() > 1,
+				entry -> new ReactiveMultiIdentifierLoadAccessImpl<>( entry.getKey() )
+						.enableSessionCheck( true )
+						.multiLoad( entry.getValue().toArray() )
+						.thenCompose( loaded -> fetchCollectionsForMerge( entry.getKey(), loaded ) )
+		);
+	}
+
+	private CompletionStage<Void> fetchCollectionsForMerge(EntityPersister persister, List<?> entities) {
+		final Type[] types = persister.getPropertyTypes();
+		final String[] names = persister.getPropertyNames();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		return loop(
+				0, types.length,
+				i -> types[i].isCollectionType() && cascadeStyles[i].doCascade( CascadingActions.MERGE ),
+				i -> reactiveFetchAll( entities, names[i] )
+		);
+	}
+
+	private void collectIdsForMerge(Object entity, Map<EntityPersister, Set<Serializable>> idsByPersister, IdentitySet visited) {
+		if ( entity instanceof HibernateProxy ) {
+			final LazyInitializer initializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			if ( initializer.isUninitialized() ) {
+				// merge() doesn't cascade to an uninitialized proxy
+				return;
+			}
+			entity = initializer.getImplementation();
+		}
+		if ( entity == null || !visited.add( entity ) ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		if ( persistenceContext.getEntry( entity ) != null ) {
+			// the entity is already managed, and so is not loaded by merge()
+			return;
+		}
+
+		final EntityPersister persister = getEntityPersister( null, entity );
+		final Serializable id = persister.getIdentifier( entity, this );
+		if ( id != null && persistenceContext.getEntity( generateEntityKey( id, persister ) ) == null ) {
+			idsByPersister.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+		}
+
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( cascadeStyles[i].doCascade( CascadingActions.MERGE ) ) {
+				final Object value = persister.getPropertyValue( entity, i );
+				if ( types[i].isEntityType() ) {
+					collectIdsForMerge( value, idsByPersister, visited );
+				}
+				else if ( types[i].isCollectionType() && value != null && Hibernate.isInitialized( value ) ) {
+					final CollectionType collectionType = (CollectionType) types[i];
+					if ( collectionType.getElementType( getFactory() ).isEntityType() ) {
+						final Iterator<?> elements = collectionType.getElementsIterator( value );
+						while ( elements.hasNext() ) {
+							collectIdsForMerge( elements.next(), idsByPersister, visited );
+						}
+					}
+				}
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> CompletionStage<T> fireMerge(MergeEvent event) {
 		checkTransactionSynchStatus();
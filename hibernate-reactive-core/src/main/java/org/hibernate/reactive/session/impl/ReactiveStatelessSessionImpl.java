@@ -33,13 +33,17 @@
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.loader.custom.sql.SQLCustomQuery;
+import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.loader.collection.impl.ReactiveDynamicBatchingCollectionInitializerBuilder;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
@@ -48,13 +52,21 @@
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.Type;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Tuple;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -100,7 +112,7 @@ private ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
         super(factory, options);
         Integer batchSize = getConfiguredJdbcBatchSize();
         reactiveConnection = batchSize==null || batchSize<2 ? connection :
-                new BatchingConnection( connection, batchSize );
+                new BatchingConnection( connection, batchSize, ForeignKeyStatementOrdering.forFactory( factory ) );
         allowBytecodeProxy = getFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled();
         this.persistenceContext = persistenceContext;
         batchingHelperSession = this;
@@ -159,8 +171,13 @@ public <T> CompletionStage<T> reactiveGet(Class<? extends T> entityClass, Object
         ReactiveEntityPersister persister = (ReactiveEntityPersister)
                 getFactory().getMetamodel().entityPersister(entityClass);
         LockOptions lockOptions = getNullSafeLockOptions(lockMode);
+        // the entity is never dirty-checked, so, unless it's locked, it's
+        // loaded in read-only mode, which allows routing to a read replica
+        boolean defaultReadOnly = persistenceContext.isDefaultReadOnly();
+        persistenceContext.setDefaultReadOnly( !lockOptions.getLockMode().greaterThan( LockMode.READ ) );
         return persister.reactiveLoad( (Serializable) id, null, lockOptions, this )
                 .whenComplete( (v, e) -> {
+                    persistenceContext.setDefaultReadOnly( defaultReadOnly );
                     if ( getPersistenceContext().isLoadFinished() ) {
                         getPersistenceContext().clear();
                     }
@@ -180,19 +197,7 @@ public CompletionStage<Void> reactiveInsert(Object entity) {
         ReactiveEntityPersister persister = getEntityPersister( null, entity );
         return generateId( entity, persister, this, this )
                 .thenCompose( id -> {
-                    Object[] state = persister.getPropertyValues(entity);
-                    if ( persister.isVersioned() ) {
-                        boolean substitute = Versioning.seedVersion(
-                                state,
-                                persister.getVersionProperty(),
-                                persister.getVersionType(),
-                                this
-                        );
-                        if (substitute) {
-                            persister.setPropertyValues( entity, state );
-                        }
-                    }
-
+                    Object[] state = seededPropertyValues( entity, persister );
                     if ( persister.isIdentifierAssignedByInsert() ) {
                         return persister.insertReactive( state, entity, this )
                                 .thenAccept( generatedId -> assignIdIfNecessary( entity, generatedId, persister,this ) );
@@ -205,6 +210,41 @@ public CompletionStage<Void> reactiveInsert(Object entity) {
                 } );
     }
 
+    /**
+     * Insert several instances of an entity whose identifier is
+     * generated by the database, using one batch of statements.
+     */
+    private CompletionStage<Void> reactiveInsertAllWithGeneratedIds(Object[] entities) {
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entities[0] );
+        Object[][] states = new Object[entities.length][];
+        for ( int i = 0; i < entities.length; i++ ) {
+            states[i] = seededPropertyValues( entities[i], persister );
+        }
+        return persister.insertAllReactive( states, entities, this )
+                .thenAccept( generatedIds -> {
+                    for ( int i = 0; i < entities.length; i++ ) {
+                        assignIdIfNecessary( entities[i], generatedIds[i], persister, this );
+                    }
+                } );
+    }
+
+    private Object[] seededPropertyValues(Object entity, ReactiveEntityPersister persister) {
+        Object[] state = persister.getPropertyValues(entity);
+        if ( persister.isVersioned() ) {
+            boolean substitute = Versioning.seedVersion(
+                    state,
+                    persister.getVersionProperty(),
+                    persister.getVersionType(),
+                    this
+            );
+            if (substitute) {
+                persister.setPropertyValues( entity, state );
+            }
+        }
+        return state;
+    }
+
     @Override
     public CompletionStage<Void> reactiveDelete(Object entity) {
         checkOpen();
@@ -243,6 +283,72 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
         final ReactiveEntityPersister persister = getEntityPersister( null, entity );
         final Serializable id = persister.getIdentifier( entity, this );
 
+        evictFromSecondLevelCache( persister, id );
+
+        String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
+        getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+        return persister.reactiveLoad( id, entity, getNullSafeLockOptions( lockMode ), this )
+                .thenAccept( result -> {
+                    if ( getPersistenceContext().isLoadFinished() ) {
+                        getPersistenceContext().clear();
+                    }
+                    UnresolvableObjectException.throwIfNull( result, id, persister.getEntityName() );
+                } )
+                .whenComplete( (v,e) -> getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+    }
+
+    /**
+     * Refresh several instances of the same entity, loading them
+     * with one query for each batch of ids, and then copying the
+     * loaded state to the given instances. A collection belongs to
+     * the instance it was loaded for, and is never shared with the
+     * given instances, so collections are not refreshed.
+     */
+    private CompletionStage<Void> reactiveRefreshAllOfEntity(List<Object> entities) {
+        final ReactiveEntityPersister persister = getEntityPersister( null, entities.get( 0 ) );
+        final Map<Serializable, List<Object>> entitiesById = new LinkedHashMap<>();
+        for ( Object entity : entities ) {
+            final Serializable id = persister.getIdentifier( entity, this );
+            evictFromSecondLevelCache( persister, id );
+            entitiesById.computeIfAbsent( id, key -> new ArrayList<>() ).add( entity );
+        }
+
+        String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
+        getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+        return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+                .batchLoad(
+                        (OuterJoinLoadable) persister,
+                        entitiesById.keySet().toArray( new Serializable[0] ),
+                        getNullSafeLockOptions( LockMode.NONE ),
+                        this
+                )
+                .thenAccept( results -> {
+                    if ( getPersistenceContext().isLoadFinished() ) {
+                        getPersistenceContext().clear();
+                    }
+                    final Type[] types = persister.getPropertyTypes();
+                    for ( Object result : results ) {
+                        final List<Object> refreshed = entitiesById.remove( persister.getIdentifier( result, this ) );
+                        if ( refreshed != null ) {
+                            final Object[] values = persister.getPropertyValues( result );
+                            for ( Object entity : refreshed ) {
+                                for ( int i = 0; i < types.length; i++ ) {
+                                    if ( !types[i].isCollectionType() ) {
+                                        persister.setPropertyValue( entity, i, values[i] );
+                                    }
+                                }
+                            }
+                        }
+                    }
+                    // any id which wasn't loaded no longer exists
+                    for ( Serializable id : entitiesById.keySet() ) {
+                        UnresolvableObjectException.throwIfNull( null, id, persister.getEntityName() );
+                    }
+                } )
+                .whenComplete( (v,e) -> getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+    }
+
+    private void evictFromSecondLevelCache(ReactiveEntityPersister persister, Serializable id) {
         if ( persister.canWriteToCache() ) {
             final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
             if ( cacheAccess != null ) {
@@ -255,22 +361,54 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
                 cacheAccess.evict( ck );
             }
         }
+    }
 
-        String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
-        getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
-        return persister.reactiveLoad( id, entity, getNullSafeLockOptions( lockMode ), this )
-                .thenAccept( result -> {
-                    if ( getPersistenceContext().isLoadFinished() ) {
-                        getPersistenceContext().clear();
-                    }
-                    UnresolvableObjectException.throwIfNull( result, id, persister.getEntityName() );
-                } )
-                .whenComplete( (v,e) -> getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+    /**
+     * Delete several instances of the same entity, using one statement
+     * for each batch of ids, if possible.
+     */
+    private CompletionStage<Void> reactiveDeleteAllOfEntity(Object[] entities) {
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entities[0] );
+        Serializable[] ids = new Serializable[entities.length];
+        for ( int i = 0; i < entities.length; i++ ) {
+            ids[i] = persister.getIdentifier( entities[i], this );
+        }
+        return persister.deleteAllReactive( ids, entities, this );
+    }
+
+    /**
+     * Split the given entities into runs of consecutive instances
+     * of the same entity, where the entity satisfies the given
+     * condition, without changing the order of the entities.
+     */
+    private List<Object[]> groupConsecutive(Object[] entities, Predicate<ReactiveEntityPersister> condition) {
+        List<Object[]> groups = new ArrayList<>();
+        int start = 0;
+        while ( start < entities.length ) {
+            ReactiveEntityPersister persister = getEntityPersister( null, entities[start] );
+            int end = start + 1;
+            if ( condition.test( persister ) ) {
+                while ( end < entities.length && getEntityPersister( null, entities[end] ) == persister ) {
+                    end++;
+                }
+            }
+            groups.add( Arrays.copyOfRange( entities, start, end ) );
+            start = end;
+        }
+        return groups;
     }
 
     @Override
     public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveInsert)
+        // consecutive instances of an entity with a database-generated
+        // id are inserted together, since they can't be batched by the
+        // BatchingConnection, and then we'd need a round trip per row
+        List<Object[]> groups = groupConsecutive( entities, ReactiveEntityPersister::isIdentifierAssignedByInsert );
+        ReactiveStatelessSessionImpl helper = (ReactiveStatelessSessionImpl) batchingHelperSession;
+        return loop( groups, group -> group.length == 1
+                        ? helper.reactiveInsert( group[0] )
+                        : helper.reactiveInsertAllWithGeneratedIds( group ) )
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
@@ -282,13 +420,28 @@ public CompletionStage<Void> reactiveUpdateAll(Object... entities) {
 
     @Override
     public CompletionStage<Void> reactiveDeleteAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveDelete)
+        // consecutive instances of an entity are deleted together, by
+        // one statement for each batch of ids, where possible, keeping
+        // the deletes in the given order, in case of foreign keys
+        List<Object[]> groups = groupConsecutive( entities, persister -> true );
+        ReactiveStatelessSessionImpl helper = (ReactiveStatelessSessionImpl) batchingHelperSession;
+        return loop( groups, group -> group.length == 1
+                        ? helper.reactiveDelete( group[0] )
+                        : helper.reactiveDeleteAllOfEntity( group ) )
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
     @Override
     public CompletionStage<Void> reactiveRefreshAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveRefresh)
+        Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+        for ( Object entity : entities ) {
+            entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), persister -> new ArrayList<>() )
+                    .add( entity );
+        }
+        ReactiveStatelessSessionImpl helper = (ReactiveStatelessSessionImpl) batchingHelperSession;
+        return loop( entitiesByPersister.values(), group -> group.size() == 1
+                        ? helper.reactiveRefresh( group.get( 0 ) )
+                        : helper.reactiveRefreshAllOfEntity( group ) )
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
@@ -493,6 +646,39 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
                 } );
     }
 
+    @Override
+    public <T> CompletionStage<ReactiveResultCursor<T>> reactiveCursor(String query, QueryParameters parameters) {
+        checkOpen();
+        parameters.validateParameters();
+
+        ReactiveHQLQueryPlan<T> reactivePlan = getReactivePlan( query, parameters );
+        return reactivePlan.performReactiveListCursor( parameters, this )
+                .whenComplete( (cursor, x) -> {
+                    if ( x != null ) {
+                        getPersistenceContext().clear();
+                        afterOperation( false );
+                    }
+                } )
+                .thenApply( cursor -> new ReactiveResultCursor<T>() {
+                    @Override
+                    public CompletionStage<List<T>> next() {
+                        // the entities in each chunk are not retained
+                        // after it has been handed to the caller
+                        return cursor.next()
+                                .whenComplete( (list, x) -> getPersistenceContext().clear() );
+                    }
+
+                    @Override
+                    public CompletionStage<Void> close() {
+                        return cursor.close()
+                                .whenComplete( (v, x) -> {
+                                    getPersistenceContext().clear();
+                                    afterOperation( x == null );
+                                } );
+                    }
+                } );
+    }
+
     @Override
     public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
         checkOpen();
@@ -716,6 +902,83 @@ else if ( association instanceof PersistentCollection) {
         }
     }
 
+    @Override
+    public CompletionStage<Void> reactiveFetchAll(Collection<?> owners, String name) {
+        checkOpen();
+        PersistenceContext persistenceContext = getPersistenceContext();
+        // uninitialized proxies, by entity name and then by id
+        Map<String, Map<Serializable, List<LazyInitializer>>> proxies = new LinkedHashMap<>();
+        // keys of uninitialized collections, by collection persister
+        Map<QueryableCollection, List<Serializable>> collectionKeys = new LinkedHashMap<>();
+        for ( Object owner : owners ) {
+            if ( owner == null ) {
+                continue;
+            }
+            Object value = getEntityPersister( null, owner ).getPropertyValue( owner, name );
+            if ( value instanceof HibernateProxy ) {
+                LazyInitializer initializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+                if ( initializer.isUninitialized() ) {
+                    proxies.computeIfAbsent( initializer.getEntityName(), entityName -> new LinkedHashMap<>() )
+                            .computeIfAbsent( initializer.getIdentifier(), id -> new ArrayList<>() )
+                            .add( initializer );
+                }
+            }
+            else if ( value instanceof PersistentCollection ) {
+                PersistentCollection collection = (PersistentCollection) value;
+                // the same collection might belong to more than one owner
+                if ( !collection.wasInitialized() && persistenceContext.getCollectionEntry( collection ) == null ) {
+                    QueryableCollection persister = (QueryableCollection)
+                            getFactory().getMetamodel().collectionPersister( collection.getRole() );
+                    Serializable key = collection.getKey();
+                    persistenceContext.addUninitializedCollection( persister, collection, key );
+                    collection.setCurrentSession( this );
+                    collectionKeys.computeIfAbsent( persister, p -> new ArrayList<>() ).add( key );
+                }
+            }
+        }
+
+        return loop( proxies.entrySet(), entry -> fetchProxies( entry.getKey(), entry.getValue() ) )
+                .thenCompose( v -> loop( collectionKeys.entrySet(),
+                        entry -> ReactiveDynamicBatchingCollectionInitializerBuilder.INSTANCE.multiLoad(
+                                entry.getKey(),
+                                entry.getValue().toArray( new Serializable[0] ),
+                                this
+                        )
+                ) )
+                .whenComplete( (v, e) -> {
+                    if ( persistenceContext.isLoadFinished() ) {
+                        persistenceContext.clear();
+                    }
+                } );
+    }
+
+    /**
+     * Load the entities with the given ids in batches, and use them to
+     * initialize the given proxies.
+     */
+    private CompletionStage<Void> fetchProxies(String entityName, Map<Serializable, List<LazyInitializer>> proxies) {
+        EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+        return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+                .batchLoad(
+                        (OuterJoinLoadable) persister,
+                        proxies.keySet().toArray( new Serializable[0] ),
+                        LockOptions.NONE,
+                        this
+                )
+                .thenAccept( entities -> {
+                    for ( Object entity : entities ) {
+                        List<LazyInitializer> initializers = proxies.remove( persister.getIdentifier( entity, this ) );
+                        if ( initializers != null ) {
+                            initializers.forEach( initializer -> initializer.setImplementation( entity ) );
+                        }
+                    }
+                    // any proxy left over refers to an entity which doesn't exist
+                    for ( Serializable id : proxies.keySet() ) {
+                        checkEntityFound( this, entityName, id, null );
+                    }
+                } );
+    }
+
     @Override @SuppressWarnings("unchecked")
     public <T> RootGraphImplementor<T> createEntityGraph(Class<T> entity, String name) {
         RootGraphImplementor<?> entityGraph = createEntityGraph(name);
@@ -6,8 +6,24 @@
 package org.hibernate.reactive.session.impl;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Collections.newSetFromMap;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 public class SessionUtil {
 
@@ -21,4 +37,123 @@ public static void checkEntityFound(SharedSessionContractImplementor session, St
 		}
 	}
 
+	/**
+	 * Fetch the associations along each of the given association paths
+	 * for every entity in the given results of a query, including the
+	 * entities in the rows of a projection. Each path is only fetched
+	 * for the entities which have its first association, since the
+	 * entities in a row may be of different types. Results which aren't
+	 * entities, for example, scalar values, are ignored.
+	 *
+	 * @see #fetchAll(ReactiveQueryExecutor, Collection, String)
+	 */
+	public static <R> CompletionStage<List<R>> fetchAll(ReactiveQueryExecutor session, List<R> results, List<String> associationPaths) {
+		if ( associationPaths.isEmpty() || results.isEmpty() ) {
+			return completedFuture( results );
+		}
+		final Set<Object> entities = newSetFromMap( new IdentityHashMap<>() );
+		for ( Object result : results ) {
+			if ( result instanceof Object[] ) {
+				for ( Object element : (Object[]) result ) {
+					addIfEntity( session, entities, element );
+				}
+			}
+			else {
+				addIfEntity( session, entities, result );
+			}
+		}
+		if ( entities.isEmpty() ) {
+			return completedFuture( results );
+		}
+		return loop( associationPaths, path -> fetchAll( session, owners( session, entities, path ), path ) )
+				.thenApply( v -> results );
+	}
+
+	/**
+	 * @return the given entities which have the first association in
+	 *         the given path
+	 */
+	private static List<Object> owners(ReactiveQueryExecutor session, Set<Object> entities, String associationPath) {
+		final int dot = associationPath.indexOf( '.' );
+		final String association = dot < 0 ? associationPath : associationPath.substring( 0, dot );
+		final List<Object> owners = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final EntityPersister persister = session.getSharedContract().getEntityPersister( null, entity );
+			if ( persister.getEntityMetamodel().getPropertyIndexOrNull( association ) != null ) {
+				owners.add( entity );
+			}
+		}
+		if ( owners.isEmpty() ) {
+			throw new IllegalArgumentException(
+					"no entity returned by the query has an association named '" + association + "'"
+			);
+		}
+		return owners;
+	}
+
+	/**
+	 * Fetch the associations along the given path of dot-separated
+	 * association names, starting from the given entities. Each
+	 * association in the path is fetched for all the entities it
+	 * belongs to at once, using one query per batch of entities,
+	 * instead of one query per entity. The owners must be entities.
+	 */
+	public static CompletionStage<Void> fetchAll(ReactiveQueryExecutor session, Collection<?> owners, String associationPath) {
+		final int dot = associationPath.indexOf( '.' );
+		final String association = dot < 0 ? associationPath : associationPath.substring( 0, dot );
+		return session.reactiveFetchAll( owners, association )
+				.thenCompose( v -> dot < 0
+						? voidFuture()
+						: fetchAll( session, associated( session, owners, association ), associationPath.substring( dot + 1 ) )
+				);
+	}
+
+	/**
+	 * @return the entities which the given owners refer to via the
+	 *         given association, which must already be fetched
+	 */
+	private static Set<Object> associated(ReactiveQueryExecutor session, Collection<?> owners, String association) {
+		// the same entity might be associated with more than one owner
+		final Set<Object> associated = newSetFromMap( new IdentityHashMap<>() );
+		for ( Object owner : owners ) {
+			if ( owner == null ) {
+				continue;
+			}
+			final Object value = session.getSharedContract().getEntityPersister( null, owner )
+					.getPropertyValue( owner, association );
+			if ( value instanceof Map ) {
+				for ( Object element : ( (Map<?, ?>) value ).values() ) {
+					addIfEntity( session, associated, element );
+				}
+			}
+			else if ( value instanceof Collection ) {
+				for ( Object element : (Collection<?>) value ) {
+					addIfEntity( session, associated, element );
+				}
+			}
+			else {
+				addIfEntity( session, associated, value );
+			}
+		}
+		return associated;
+	}
+
+	/**
+	 * Add the given value to the given entities if it's an entity whose
+	 * associations can be fetched, that is, if it's not an embeddable
+	 * or basic value, nor an uninitialized proxy.
+	 */
+	private static void addIfEntity(ReactiveQueryExecutor session, Set<Object> entities, Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer initializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			if ( !initializer.isUninitialized() ) {
+				entities.add( initializer.getImplementation() );
+			}
+		}
+		else if ( value != null && session.getSharedContract().getFactory().getMetamodel()
+				.entityPersisters().containsKey( value.getClass().getName() ) ) {
+			entities.add( value );
+		}
+	}
+
 }
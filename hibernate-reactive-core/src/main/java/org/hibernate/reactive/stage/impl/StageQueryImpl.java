@@ -5,12 +5,18 @@
  */
 package org.hibernate.reactive.stage.impl;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
 import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.reactive.session.ReactiveResultCursor;
 import org.hibernate.reactive.stage.Stage;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.Parameter;
 import java.util.List;
@@ -74,6 +80,12 @@ public Stage.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -142,6 +154,12 @@ public Stage.Query<R> setLockMode(String alias, LockMode lockMode) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> addFetchAll(String associationPath) {
+		delegate.addFetchAll( associationPath );
+		return this;
+	}
+
 	@Override
 	public Stage.Query<R> setCacheMode(CacheMode cacheMode) {
 		delegate.setCacheMode( cacheMode );
@@ -190,4 +208,28 @@ public CompletionStage<List<R>> getResultList() {
 		return stage( v -> delegate.getReactiveResultList() );
 	}
 
+	@Override
+	public CompletionStage<KeyedResultList<R>> getKeyedResultList(KeyedPage page) {
+		return stage( v -> delegate.getReactiveKeyedResultList( page ) );
+	}
+
+	@Override
+	public Publisher<R> getResultStream() {
+		return uni( v -> delegate.getReactiveResultCursor() )
+				.onItem().transformToMulti( cursor -> Multi.createFrom()
+						.resource( () -> cursor, this::stream )
+						.withFinalizer( (ReactiveResultCursor<R> c) -> uni( v -> c.close() ) ) );
+	}
+
+	private Multi<R> stream(ReactiveResultCursor<R> cursor) {
+		return Multi.createBy().repeating()
+				.uni( () -> uni( v -> cursor.next() ) )
+				.until( List::isEmpty )
+				.onItem().disjoint();
+	}
+
+	private <T> Uni<T> uni(Function<Void, CompletionStage<T>> stage) {
+		return Uni.createFrom().completionStage( () -> stage( stage ) );
+	}
+
 }
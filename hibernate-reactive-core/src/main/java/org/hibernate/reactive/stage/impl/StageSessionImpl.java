@@ -24,6 +24,7 @@
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -66,6 +67,11 @@ public <E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field) {
 		return stage( v -> delegate.reactiveFetch(entity, field) );
 	}
 
+	@Override
+	public <E> CompletionStage<Void> fetchAll(Collection<? extends E> owners, Attribute<E,?> association) {
+		return stage( v -> delegate.reactiveFetchAll(owners, association) );
+	}
+
 	@Override
 	public <T> CompletionStage<T> unproxy(T association) {
 		return stage( v -> delegate.reactiveFetch(association, true) );
@@ -131,7 +137,7 @@ public CompletionStage<Void> persist(Object entity) {
 
 	@Override
 	public CompletionStage<Void> persist(Object... entity) {
-		return stage( v -> applyToAll( delegate::reactivePersist, entity ) );
+		return stage( v -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -151,7 +157,7 @@ public <T> CompletionStage<T> merge(T entity) {
 
 	@Override @SafeVarargs
 	public final <T> CompletionStage<Void> merge(T... entity) {
-		return stage( v -> applyToAll( delegate::reactiveMerge, entity ) );
+		return stage( v -> delegate.reactiveMergeAll( entity ) );
 	}
 
 	@Override
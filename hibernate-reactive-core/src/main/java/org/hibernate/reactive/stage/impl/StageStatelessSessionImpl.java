@@ -5,6 +5,8 @@
  */
 package org.hibernate.reactive.stage.impl;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import org.hibernate.LockMode;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
@@ -12,6 +14,7 @@
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.stage.Stage;
+import org.reactivestreams.Publisher;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.criteria.CriteriaDelete;
@@ -122,6 +125,21 @@ public CompletionStage<Void> insert(Object... entities) {
         return stage( w -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public CompletionStage<Void> insert(Publisher<?> entities, int batchSize) {
+        if ( batchSize < 1 ) {
+            throw new IllegalArgumentException( "batch size must be positive" );
+        }
+        return Multi.createFrom().publisher( entities )
+                .group().intoLists().of( batchSize )
+                // insert one batch at a time, requesting the next
+                // batch only once the previous one has been executed
+                .onItem().transformToUniAndConcatenate( batch -> Uni.createFrom()
+                        .completionStage( () -> stage( w -> delegate.reactiveInsertAll( batch.toArray() ) ) ) )
+                .onItem().ignoreAsUni()
+                .subscribeAsCompletionStage();
+    }
+
     @Override
     public CompletionStage<Void> delete(Object entity) {
         return stage( w -> delegate.reactiveDelete(entity) );
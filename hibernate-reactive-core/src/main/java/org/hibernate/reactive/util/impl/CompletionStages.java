@@ -348,6 +348,35 @@ public static CompletionStage<Void> loop(int start, int end, IntPredicate filter
 		return voidFuture();
 	}
 
+	/**
+	 * Like {@link #loop(int, int, IntFunction)}, but starts every
+	 * operation without waiting for the previous operation to complete.
+	 * The operations are started in order. The returned stage completes
+	 * when every operation has completed, and fails if any operation
+	 * failed.
+	 * <p>
+	 * Only use this to execute operations on a
+	 * {@linkplain org.hibernate.reactive.pool.ReactiveConnection#isPipelined()
+	 * pipelined connection}.
+	 */
+	public static CompletionStage<Void> pipeline(int start, int end, IntFunction<CompletionStage<?>> consumer) {
+		if ( start >= end ) {
+			return voidFuture();
+		}
+		final CompletableFuture<?>[] stages = new CompletableFuture<?>[end - start];
+		for ( int i = start; i < end; i++ ) {
+			CompletionStage<?> stage;
+			try {
+				stage = consumer.apply( i );
+			}
+			catch (RuntimeException e) {
+				stage = failedFuture( e );
+			}
+			stages[i - start] = stage.toCompletableFuture();
+		}
+		return CompletableFuture.allOf( stages );
+	}
+
 	/**
 	 * The status of a loop over an array.
 	 * <p>
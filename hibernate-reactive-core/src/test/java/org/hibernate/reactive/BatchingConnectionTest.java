@@ -0,0 +1,223 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * Tests the grouping of statements into batches by {@link BatchingConnection}.
+ */
+@RunWith(VertxUnitRunner.class)
+public class BatchingConnectionTest {
+
+	private static final String INSERT_ORDER = "insert into Orders (id) values (?)";
+	private static final String INSERT_LINE = "insert into OrderLine (order_id, id) values (?, ?)";
+	private static final ReactiveConnection.Expectation NONE = (rowCount, batchPosition, sql) -> {};
+
+	private final RecordingConnection recorder = new RecordingConnection();
+
+	@Test
+	public void testStrictOrderingFlushesWhenStatementChanges(TestContext context) {
+		BatchingConnection connection = new BatchingConnection( recorder, 10 );
+		test( context, interleave( connection )
+				.thenAccept( v -> assertThat( recorder.statements ).containsExactly(
+						INSERT_ORDER + " x1",
+						INSERT_LINE + " x1",
+						INSERT_ORDER + " x1",
+						INSERT_LINE + " x1",
+						INSERT_ORDER + " x1",
+						INSERT_LINE + " x1"
+				) ) );
+	}
+
+	@Test
+	public void testOneBatchPerStatement(TestContext context) {
+		// an OrderLine references an Order, but not the other way round
+		BatchingConnection connection = new BatchingConnection( recorder, 10,
+				(sql, earlierSql) -> sql.equals( INSERT_ORDER ) );
+		test( context, interleave( connection )
+				.thenAccept( v -> assertThat( recorder.statements ).containsExactly(
+						INSERT_ORDER + " x3",
+						INSERT_LINE + " x3"
+				) ) );
+	}
+
+	@Test
+	public void testDependentStatementFlushesBatches(TestContext context) {
+		// an OrderLine may not be executed ahead of an Order
+		BatchingConnection connection = new BatchingConnection( recorder, 10,
+				(sql, earlierSql) -> sql.equals( INSERT_ORDER ) );
+		test( context, connection.update( INSERT_LINE, new Object[] { 1, 1 }, true, NONE )
+				.thenCompose( v -> connection.update( INSERT_ORDER, new Object[] { 2 }, true, NONE ) )
+				.thenCompose( v -> connection.update( INSERT_LINE, new Object[] { 2, 2 }, true, NONE ) )
+				.thenCompose( v -> connection.executeBatch() )
+				.thenAccept( v -> assertThat( recorder.statements ).containsExactly(
+						INSERT_LINE + " x1",
+						INSERT_ORDER + " x1",
+						INSERT_LINE + " x1"
+				) ) );
+	}
+
+	@Test
+	public void testFullBatchFlushesBatches(TestContext context) {
+		BatchingConnection connection = new BatchingConnection( recorder, 2,
+				(sql, earlierSql) -> sql.equals( INSERT_ORDER ) );
+		test( context, interleave( connection )
+				.thenAccept( v -> assertThat( recorder.statements ).containsExactly(
+						INSERT_ORDER + " x2",
+						INSERT_LINE + " x2",
+						INSERT_ORDER + " x1",
+						INSERT_LINE + " x1"
+				) ) );
+	}
+
+	private static CompletionStage<Void> interleave(BatchingConnection connection) {
+		return connection.update( INSERT_ORDER, new Object[] { 1 }, true, NONE )
+				.thenCompose( v -> connection.update( INSERT_LINE, new Object[] { 1, 1 }, true, NONE ) )
+				.thenCompose( v -> connection.update( INSERT_ORDER, new Object[] { 2 }, true, NONE ) )
+				.thenCompose( v -> connection.update( INSERT_LINE, new Object[] { 2, 2 }, true, NONE ) )
+				.thenCompose( v -> connection.update( INSERT_ORDER, new Object[] { 3 }, true, NONE ) )
+				.thenCompose( v -> connection.update( INSERT_LINE, new Object[] { 3, 3 }, true, NONE ) )
+				.thenCompose( v -> connection.executeBatch() );
+	}
+
+	private static void test(TestContext context, CompletionStage<?> cs) {
+		Async async = context.async();
+		cs.whenComplete( (res, err) -> {
+			if ( err != null ) {
+				context.fail( err );
+			}
+			else {
+				async.complete();
+			}
+		} );
+	}
+
+	/**
+	 * Records the statements sent to the database, along
+	 * with the number of rows in each batch.
+	 */
+	private static class RecordingConnection implements ReactiveConnection {
+
+		final List<String> statements = new ArrayList<>();
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			statements.add( sql + " x1" );
+			return completedFuture( 1 );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			statements.add( sql + " x" + paramValues.size() );
+			int[] rowCounts = new int[paramValues.size()];
+			Arrays.fill( rowCounts, 1 );
+			return completedFuture( rowCounts );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return update( sql, paramValues ).thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Long[]> insertAndSelectIdentifiers(String sql, List<Object[]> paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isPipelined() {
+			return false;
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
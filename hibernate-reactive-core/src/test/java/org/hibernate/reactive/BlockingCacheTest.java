@@ -0,0 +1,23 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * Runs the tests in {@link CacheTest} with the second-level cache
+ * operations offloaded to the Vert.x worker pool.
+ */
+public class BlockingCacheTest extends CacheTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.CACHE_BLOCKING, "true" );
+		return configuration;
+	}
+}
@@ -0,0 +1,123 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the allocation of ids from blocks by {@link BlockingIdentifierGenerator},
+ * without a database.
+ */
+@RunWith(VertxUnitRunner.class)
+public class BlockingIdentifierGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	@Test
+	public void testSequentialIds(TestContext context) {
+		InMemoryGenerator generator = new InMemoryGenerator();
+		List<Long> ids = new ArrayList<>();
+		CompletionStage<Void> stage = CompletableFuture.completedFuture( null );
+		for ( int i = 0; i < 29; i++ ) {
+			stage = stage.thenCompose( v -> generator.generate( null, null ) ).thenAccept( ids::add );
+		}
+		test( context, stage.thenAccept( v -> {
+			for ( int i = 0; i < 29; i++ ) {
+				assertThat( ids.get( i ) ).isEqualTo( i + 1 );
+			}
+			// the fourth block was fetched before the third was exhausted
+			assertThat( generator.fetches.get() ).isEqualTo( 4 );
+		} ) );
+	}
+
+	@Test
+	public void testConcurrentIdsAreUnique(TestContext context) {
+		InMemoryGenerator generator = new InMemoryGenerator();
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			futures.add( CompletableFuture.supplyAsync( () -> generator.generate( null, null ) )
+					.thenCompose( id -> id )
+					.thenAccept( ids::add )
+			);
+		}
+		test( context, CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) )
+				.thenAccept( v -> assertThat( ids ).hasSize( 1000 ) ) );
+	}
+
+	@Test
+	public void testFailedFetchIsRetried(TestContext context) {
+		AtomicInteger failures = new AtomicInteger( 1 );
+		InMemoryGenerator generator = new InMemoryGenerator() {
+			@Override
+			protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+				if ( failures.getAndDecrement() > 0 ) {
+					CompletableFuture<Long> failed = new CompletableFuture<>();
+					failed.completeExceptionally( new IllegalStateException( "no connection" ) );
+					return failed;
+				}
+				return super.nextHiValue( session );
+			}
+		};
+		test( context, generator.generate( null, null )
+				.handle( (id, error) -> error )
+				.thenAccept( error -> assertThat( error ).hasCauseInstanceOf( IllegalStateException.class ) )
+				.thenCompose( v -> generator.generate( null, null ) )
+				.thenAccept( id -> assertThat( id ).isEqualTo( 1 ) ) );
+	}
+
+	private static void test(TestContext context, CompletionStage<?> cs) {
+		Async async = context.async();
+		cs.whenComplete( (res, err) -> {
+			if ( err != null ) {
+				context.fail( err );
+			}
+			else {
+				async.complete();
+			}
+		} );
+	}
+
+	/**
+	 * Allocates blocks from an in-memory "sequence", completing
+	 * each fetch asynchronously.
+	 */
+	private static class InMemoryGenerator extends BlockingIdentifierGenerator {
+
+		final AtomicLong sequence = new AtomicLong( 1 );
+		final AtomicInteger fetches = new AtomicInteger();
+
+		@Override
+		protected int getBlockSize() {
+			return BLOCK_SIZE;
+		}
+
+		@Override
+		protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+			fetches.incrementAndGet();
+			return CompletableFuture.supplyAsync( () -> sequence.getAndAdd( BLOCK_SIZE ) );
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -25,7 +26,9 @@
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.pipeline;
 import static org.hibernate.reactive.util.impl.CompletionStages.total;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -179,6 +182,33 @@ public void testLoopOnCollectionWithFilter(TestContext context) {
 		).thenAccept( v -> assertThat( looped ).containsExactly( "c" ) ) );
 	}
 
+	@Test
+	public void testPipelineStartsAllOperations(TestContext context) {
+		final CompletableFuture<Void> first = new CompletableFuture<>();
+		CompletionStage<Void> pipeline = pipeline( 0, entries.length, index -> {
+			looped.add( entries[index] );
+			// the first operation doesn't complete until
+			// every other operation has been started
+			return index == 0 ? first : voidFuture();
+		} );
+		assertThat( looped ).containsExactly( entries );
+		assertThat( pipeline.toCompletableFuture().isDone() ).isFalse();
+		first.complete( null );
+		test( context, pipeline );
+	}
+
+	@Test
+	public void testPipelineFailure(TestContext context) {
+		test( context, pipeline( 0, entries.length, index -> index == 2
+						? failedFuture( new IllegalStateException( "fail" ) )
+						: completedFuture( looped.add( entries[index] ) ) )
+				.handle( (v, e) -> {
+					assertThat( e ).hasCauseInstanceOf( IllegalStateException.class );
+					assertThat( looped ).containsExactly( "a", "b", "d", "e" );
+					return null;
+				} ) );
+	}
+
 	private static Iterator<Object> iterator(Object[] entries) {
 		return asList( entries ).iterator();
 	}
@@ -0,0 +1,90 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.ReactiveConnectionStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link ReactiveConnectionStatistics} collected when
+ * {@link Settings#GENERATE_STATISTICS} is enabled.
+ */
+public class ConnectionStatisticsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "10" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Gadget" ) );
+	}
+
+	@Test
+	public void testStatisticsCollected(TestContext context) {
+		final ReactiveConnectionStatistics statistics = statistics();
+		final long requests = statistics.getConnectionRequestCount();
+		final long waits = statistics.getConnectionWaitTimes().getCount();
+		final long executions = statistics.getStatementExecutionTimes().getCount();
+		final long batches = statistics.getBatchSizes().getCount();
+		final long transactions = statistics.getTransactionTimes().getCount();
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( new Gadget( 1, "a" ), new Gadget( 2, "b" ), new Gadget( 3, "c" ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withSession( s -> s.find( Gadget.class, 1 ) ) )
+				.invoke( gadget -> {
+					assertThat( gadget.name ).isEqualTo( "a" );
+					assertThat( statistics.getConnectionRequestCount() ).isGreaterThanOrEqualTo( requests + 2 );
+					assertThat( statistics.getConnectionWaitTimes().getCount() ).isGreaterThanOrEqualTo( waits + 2 );
+					assertThat( statistics.getStatementExecutionTimes().getCount() ).isGreaterThan( executions );
+					// the three inserts were sent in one batch
+					assertThat( statistics.getBatchSizes().getCount() ).isGreaterThan( batches );
+					assertThat( statistics.getBatchSizes().getMax() ).isGreaterThanOrEqualTo( 3 );
+					assertThat( statistics.getTransactionTimes().getCount() ).isGreaterThan( transactions );
+					assertThat( statistics.getStatementExecutionTimes().getValueAtPercentile( 50 ) )
+							.isLessThanOrEqualTo( statistics.getStatementExecutionTimes().getMax() );
+				} )
+		);
+	}
+
+	private static ReactiveConnectionStatistics statistics() {
+		return ( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics();
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "StatisticsGadget")
+	static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		Gadget() {
+		}
+
+		Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.stat.Statistics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that criteria queries which differ only in the values of
+ * their string literals share a single query plan, when literals
+ * are bound as parameters.
+ */
+public class CriteriaLiteralTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.CRITERIA_LITERAL_HANDLING_MODE, "bind" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll(
+						new Book( 1, "Snow Crash" ),
+						new Book( 2, "Cryptonomicon" )
+				) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Book" ) );
+	}
+
+	@Test
+	public void testQueryPlanReused(TestContext context) {
+		final Statistics statistics = factoryManager.getHibernateSessionFactory().getStatistics();
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createQuery( byTitle( "Snow Crash" ) ).getSingleResult() )
+				.invoke( book -> assertThat( book.id ).isEqualTo( 1 ) )
+				.chain( () -> {
+					final long misses = statistics.getQueryPlanCacheMissCount();
+					return getMutinySessionFactory()
+							.withSession( s -> s.createQuery( byTitle( "Cryptonomicon" ) ).getSingleResult() )
+							.invoke( book -> {
+								assertThat( book.id ).isEqualTo( 2 );
+								assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+							} );
+				} )
+		);
+	}
+
+	private static CriteriaQuery<Book> byTitle(String title) {
+		CriteriaBuilder builder = getMutinySessionFactory().getCriteriaBuilder();
+		CriteriaQuery<Book> query = builder.createQuery( Book.class );
+		Root<Book> book = query.from( Book.class );
+		query.where( builder.equal( book.get( "title" ), title ) );
+		return query;
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "CriteriaLiteralBook")
+	static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.ReactiveConnectionStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Tests that HQL updates and deletes of a joined inheritance hierarchy
+ * are executed as a single statement when {@link Settings#BULK_ID_CTE}
+ * is enabled.
+ */
+public class CteBulkIdStrategyTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule dbRule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL, COCKROACHDB );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Vehicle.class );
+		configuration.addAnnotatedClass( Truck.class );
+		configuration.setProperty( Settings.BULK_ID_CTE, "true" );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Object> vehicles = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			vehicles.add( new Truck( i, "parked", i * 100 ) );
+		}
+		vehicles.add( new Vehicle( 10, "parked" ) );
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( vehicles.toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Truck", "Vehicle" ) );
+	}
+
+	@Test
+	public void testUpdateAndDelete(TestContext context) {
+		final ReactiveConnectionStatistics statistics =
+				( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics();
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> {
+					final long executions = statistics.getStatementExecutionTimes().getCount();
+					// affects both the Vehicle and Truck tables
+					return s.createQuery( "update Truck set state = 'loaded', payload = payload + 1 where payload >= :min" )
+							.setParameter( "min", 500 )
+							.executeUpdate()
+							.invoke( count -> {
+								assertThat( count ).isEqualTo( 5 );
+								assertThat( statistics.getStatementExecutionTimes().getCount() - executions ).isEqualTo( 1 );
+							} );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Truck where state = 'loaded'", Truck.class )
+						.getResultList() ) )
+				.invoke( trucks -> {
+					assertThat( trucks ).hasSize( 5 );
+					trucks.forEach( truck -> assertThat( truck.payload ).isEqualTo( truck.id * 100 + 1 ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "delete Vehicle where state = 'loaded'" )
+						.executeUpdate() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( 5 ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Vehicle", Vehicle.class )
+						.getResultList() ) )
+				.invoke( remaining -> assertThat( remaining ).hasSize( 6 ) )
+		);
+	}
+
+	@Entity(name = "Vehicle")
+	@Table(name = "CteVehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	static class Vehicle {
+		@Id
+		Integer id;
+		String state;
+
+		Vehicle() {
+		}
+
+		Vehicle(Integer id, String state) {
+			this.id = id;
+			this.state = state;
+		}
+	}
+
+	@Entity(name = "Truck")
+	@Table(name = "CteTruck")
+	static class Truck extends Vehicle {
+		Integer payload;
+
+		Truck() {
+		}
+
+		Truck(Integer id, String state, Integer payload) {
+			super( id, state );
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests fetching a lazy association of a whole list of entities
+ * with {@link org.hibernate.reactive.mutiny.Mutiny.Session#fetchAll}
+ * and {@link org.hibernate.reactive.stage.Stage.Session#fetchAll},
+ * and of the results of a query with
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Query#addFetchAll}.
+ * Every association is fetched by a single query, since there are
+ * fewer owners than the size of a batch.
+ */
+public class FetchAllTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Customer.class );
+		configuration.addAnnotatedClass( Purchase.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			Customer customer = new Customer( i, "customer" + i );
+			entities.add( customer );
+			for ( int j = 0; j < 3; j++ ) {
+				Purchase purchase = new Purchase( i * 10 + j, customer );
+				customer.purchases.add( purchase );
+				entities.add( purchase );
+			}
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( entities.toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Purchase", "Customer" ) );
+	}
+
+	@Test
+	public void testFetchAllManyToOne(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from Purchase order by id", Purchase.class )
+				.getResultList()
+				.call( purchases -> {
+					purchases.forEach( purchase -> assertThat( Hibernate.isInitialized( purchase.customer ) ).isFalse() );
+					final long executions = executions();
+					return s.fetchAll( purchases, attribute( Purchase.class, "customer" ) )
+							.invoke( () -> assertThat( executions() - executions ).isEqualTo( 1 ) );
+				} )
+				.invoke( purchases -> {
+					assertThat( purchases ).hasSize( 15 );
+					purchases.forEach( purchase -> {
+						assertThat( Hibernate.isInitialized( purchase.customer ) ).isTrue();
+						// the proxy delegates to the fetched entity
+						assertThat( purchase.customer.getName() ).isEqualTo( "customer" + purchase.id / 10 );
+					} );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testFetchAllOneToMany(TestContext context) {
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( "from Customer order by id", Customer.class )
+				.getResultList()
+				.thenCompose( customers -> {
+					customers.forEach( customer -> assertThat( Hibernate.isInitialized( customer.purchases ) ).isFalse() );
+					final long executions = executions();
+					return s.fetchAll( customers, attribute( Customer.class, "purchases" ) )
+							.thenApply( v -> {
+								assertThat( executions() - executions ).isEqualTo( 1 );
+								return customers;
+							} );
+				} )
+				.thenAccept( customers -> {
+					assertThat( customers ).hasSize( 5 );
+					customers.forEach( customer -> {
+						assertThat( Hibernate.isInitialized( customer.purchases ) ).isTrue();
+						assertThat( customer.purchases ).hasSize( 3 );
+					} );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testQueryFetchAll(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withSession( s -> {
+			executions[0] = executions();
+			return s.createQuery( "from Customer order by id", Customer.class )
+					.addFetchAll( "purchases" )
+					.getResultList()
+					.invoke( customers -> {
+						// the query, and then the purchases of every customer
+						assertThat( executions() - executions[0] ).isEqualTo( 2 );
+						assertThat( customers ).hasSize( 5 );
+						customers.forEach( customer -> {
+							assertThat( Hibernate.isInitialized( customer.purchases ) ).isTrue();
+							assertThat( customer.purchases ).hasSize( 3 );
+						} );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testStatelessQueryFetchAllPath(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withStatelessSession( s -> {
+			executions[0] = executions();
+			return s.createQuery( "from Purchase order by id", Purchase.class )
+					.addFetchAll( "customer.purchases" )
+					.getResultList()
+					.invoke( purchases -> {
+						// the query, then the customers of every purchase,
+						// and then the purchases of every customer
+						assertThat( executions() - executions[0] ).isEqualTo( 3 );
+						assertThat( purchases ).hasSize( 15 );
+						purchases.forEach( purchase -> {
+							assertThat( Hibernate.isInitialized( purchase.customer ) ).isTrue();
+							assertThat( purchase.customer.getName() ).isEqualTo( "customer" + purchase.id / 10 );
+							// the proxy delegates to the fetched entity
+							assertThat( Hibernate.isInitialized( purchase.customer.getPurchases() ) ).isTrue();
+							assertThat( purchase.customer.getPurchases() ).hasSize( 3 );
+						} );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testQueryFetchAllProjection(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withSession( s -> {
+			executions[0] = executions();
+			return s.createQuery( "select p, p.id from Purchase p order by p.id", Object[].class )
+					.addFetchAll( "customer" )
+					.getResultList()
+					.invoke( rows -> {
+						// the query, and then the customers of the
+						// purchases in every row
+						assertThat( executions() - executions[0] ).isEqualTo( 2 );
+						assertThat( rows ).hasSize( 15 );
+						rows.forEach( row -> {
+							final Purchase purchase = (Purchase) row[0];
+							assertThat( Hibernate.isInitialized( purchase.customer ) ).isTrue();
+							assertThat( purchase.customer.getName() ).isEqualTo( "customer" + purchase.id / 10 );
+						} );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testQueryFetchAllJoinProjection(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withSession( s -> {
+			executions[0] = executions();
+			// only the customers have purchases
+			return s.createQuery( "select p, c from Purchase p join p.customer c order by p.id", Object[].class )
+					.addFetchAll( "purchases" )
+					.getResultList()
+					.invoke( rows -> {
+						// the query, and then the purchases of every customer
+						assertThat( executions() - executions[0] ).isEqualTo( 2 );
+						assertThat( rows ).hasSize( 15 );
+						rows.forEach( row -> {
+							final Customer customer = (Customer) row[1];
+							assertThat( Hibernate.isInitialized( customer.purchases ) ).isTrue();
+							assertThat( customer.purchases ).hasSize( 3 );
+						} );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testQueryFetchAllIgnoresScalarResults(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withSession( s -> {
+			executions[0] = executions();
+			return s.createQuery( "select name from Customer order by id", String.class )
+					.addFetchAll( "purchases" )
+					.getResultList()
+					.invoke( names -> {
+						assertThat( executions() - executions[0] ).isEqualTo( 1 );
+						assertThat( names ).hasSize( 5 );
+					} );
+		} ) );
+	}
+
+	private long executions() {
+		return ( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics()
+				.getStatementExecutionTimes().getCount();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E> Attribute<E, ?> attribute(Class<E> entityClass, String name) {
+		EntityType<E> entityType = getMutinySessionFactory().getMetamodel().entity( entityClass );
+		return (Attribute<E, ?>) entityType.getAttribute( name );
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "FetchAllCustomer")
+	static class Customer {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "customer", fetch = FetchType.LAZY)
+		List<Purchase> purchases = new ArrayList<>();
+
+		Customer() {
+		}
+
+		Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		List<Purchase> getPurchases() {
+			return purchases;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	@Table(name = "FetchAllPurchase")
+	static class Purchase {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Customer customer;
+
+		Purchase() {
+		}
+
+		Purchase(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+/**
+ * Tests that a flush with {@link Settings#STATEMENT_PIPELINING statement
+ * pipelining} enabled sends the statements of its actions in the order
+ * of the actions, even when some actions do asynchronous work before
+ * sending their statements. Here, the second-level cache is accessed on
+ * a worker thread, so the delete of a (cached) child must lock its cache
+ * item before it is sent, but it must still reach the database before
+ * the delete of its (uncached) parent.
+ */
+public class FlushPipeliningTest extends BaseReactiveTest {
+
+	private static final int PARENTS = 5;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Parent.class );
+		configuration.addAnnotatedClass( Child.class );
+		configuration.setProperty( Settings.STATEMENT_PIPELINING, "true" );
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		configuration.setProperty( Settings.CACHE_BLOCKING, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "PipelinedChild", "PipelinedParent" ) );
+	}
+
+	@Test
+	public void testInsertAndDeleteInForeignKeyOrder(TestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < PARENTS; i++ ) {
+			Parent parent = new Parent( i, "parent " + i );
+			entities.add( parent );
+			entities.add( new Child( i * 10, "first child", parent ) );
+			entities.add( new Child( i * 10 + 1, "second child", parent ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				// each child is inserted after its parent
+				.withTransaction( (s, tx) -> s.persistAll( entities.toArray() ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from PipelinedChild", Child.class )
+						.getResultList() ) )
+				.invoke( children -> assertThat( children ).hasSize( PARENTS * 2 ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from PipelinedChild c join fetch c.parent", Child.class )
+						.getResultList()
+						.call( children -> {
+							// each child is deleted before its parent
+							final List<Object> removed = new ArrayList<>( children );
+							children.forEach( child -> {
+								if ( !removed.contains( child.parent ) ) {
+									removed.add( child.parent );
+								}
+							} );
+							return s.removeAll( removed.toArray() );
+						} ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from PipelinedParent", Long.class )
+						.getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( 0L ) )
+		);
+	}
+
+	@Test
+	public void testUpdateAndDeleteInForeignKeyOrder(TestContext context) {
+		final Parent first = new Parent( 1, "first" );
+		final Parent second = new Parent( 2, "second" );
+		final Child child = new Child( 10, "child", first );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( first, second, child ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Child.class, child.id )
+						// the update of the child is executed before the delete of its
+						// previous parent, even though it must first lock its cache item
+						.call( c -> s.find( Parent.class, second.id ).invoke( p -> c.parent = p ) )
+						.call( () -> s.find( Parent.class, first.id ).call( s::remove ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select c.parent.name from PipelinedChild c", String.class )
+						.getSingleResult() ) )
+				.invoke( name -> assertThat( name ).isEqualTo( "second" ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from PipelinedParent", Long.class )
+						.getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( 1L ) )
+		);
+	}
+
+	@Entity(name = "PipelinedParent")
+	@Table(name = "PipelinedParent")
+	static class Parent {
+		@Id
+		Integer id;
+		String name;
+
+		Parent() {
+		}
+
+		Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "PipelinedChild")
+	@Table(name = "PipelinedChild")
+	@Cacheable
+	@Cache(region = "pipelined.child", usage = READ_WRITE)
+	static class Child {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Parent parent;
+
+		Child() {
+		}
+
+		Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test a query for an interface implemented by several unrelated
+ * entities, which is executed as one SQL query per entity, with
+ * {@link Settings#STATEMENT_PIPELINING statement pipelining} enabled.
+ */
+public class ImplicitPolymorphismPipelinedQueryTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Circle.class );
+		configuration.addAnnotatedClass( Square.class );
+		configuration.addAnnotatedClass( Triangle.class );
+		configuration.setProperty( Settings.STATEMENT_PIPELINING, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s.persistAll(
+				new Circle( 1, "a" ), new Circle( 2, "d" ),
+				new Square( 1, "b" ), new Square( 2, "e" ),
+				new Triangle( 1, "c" ), new Triangle( 2, "f" )
+		) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Circle", "Square", "Triangle" ) );
+	}
+
+	@Test
+	public void testQueryAllImplementations(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from " + Shape.class.getName(), Shape.class )
+				.getResultList()
+				.invoke( list -> {
+					assertThat( list ).hasSize( 6 );
+					assertThat( list ).extracting( Shape::getName )
+							.containsExactlyInAnyOrder( "a", "b", "c", "d", "e", "f" );
+					// the results of each query are hydrated in turn
+					assertThat( list.get( 0 ).getClass() ).isEqualTo( list.get( 1 ).getClass() );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testQueryAllImplementationsWithLimit(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from " + Shape.class.getName() + " where name > 'a'", Shape.class )
+				.setMaxResults( 3 )
+				.getResultList()
+				.invoke( list -> assertThat( list ).hasSize( 3 ) ) )
+		);
+	}
+
+	public interface Shape {
+		String getName();
+	}
+
+	@Entity(name = "Circle")
+	@Table(name = "CircleShape")
+	public static class Circle implements Shape {
+		@Id
+		Integer id;
+		String name;
+
+		Circle() {
+		}
+
+		Circle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Square")
+	@Table(name = "SquareShape")
+	public static class Square implements Shape {
+		@Id
+		Integer id;
+		String name;
+
+		Square() {
+		}
+
+		Square(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Triangle")
+	@Table(name = "TriangleShape")
+	public static class Triangle implements Shape {
+		@Id
+		Integer id;
+		String name;
+
+		Triangle() {
+		}
+
+		Triangle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link org.hibernate.reactive.cache.impl.InProcessQueryResultsCache},
+ * which fetches the entities in a cached query result using a batch query, and
+ * is invalidated when a transaction modifies one of the query spaces.
+ */
+public class InProcessQueryCacheTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Settings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.internal.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		configuration.setProperty( Settings.QUERY_CACHE_MAX_SIZE, "10" );
+		configuration.addAnnotatedClass( Vegetable.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Vegetable" ) );
+	}
+
+	private static Uni<List<Vegetable>> findAll(Mutiny.Session session) {
+		return session.createQuery( "from Vegetable order by name", Vegetable.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Test
+	public void testCachedResultsAndInvalidation(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll(
+						new Vegetable( 1, "Carrot" ),
+						new Vegetable( 2, "Leek" ),
+						new Vegetable( 3, "Onion" )
+				) )
+				// cache the results
+				.chain( () -> getMutinySessionFactory().withSession( InProcessQueryCacheTest::findAll ) )
+				.invoke( list -> assertThat( list ).hasSize( 3 ) )
+				// a stateless session doesn't invalidate the query cache
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( ss -> ss.insert( new Vegetable( 4, "Potato" ) ) ) )
+				// the entities are fetched for the cached ids
+				.chain( () -> getMutinySessionFactory().withSession( InProcessQueryCacheTest::findAll ) )
+				.invoke( list -> assertThat( list ).extracting( v -> v.name )
+						.containsExactly( "Carrot", "Leek", "Onion" ) )
+				// a transaction invalidates the cached results
+				.chain( () -> getMutinySessionFactory()
+						.withTransaction( (s, tx) -> s.persist( new Vegetable( 5, "Beetroot" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( InProcessQueryCacheTest::findAll ) )
+				.invoke( list -> assertThat( list ).extracting( v -> v.name )
+						.containsExactly( "Beetroot", "Carrot", "Leek", "Onion", "Potato" ) )
+		);
+	}
+
+	@Test
+	public void testRollbackAfterFlush(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll(
+						new Vegetable( 1, "Carrot" ),
+						new Vegetable( 2, "Leek" ),
+						new Vegetable( 3, "Onion" )
+				) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Vegetable.class, 1 )
+						.invoke( carrot -> carrot.name = "Parsnip" )
+						.call( s::flush )
+						// the query sees the uncommitted change, so
+						// its results must not be cached
+						.chain( () -> findAll( s ) )
+						.invoke( list -> assertThat( list ).extracting( v -> v.id )
+								.containsExactly( 2, 3, 1 ) )
+						.invoke( tx::markForRollback ) ) )
+				// the cached results, if any, would be in the wrong order
+				.chain( () -> getMutinySessionFactory().withSession( InProcessQueryCacheTest::findAll ) )
+				.invoke( list -> assertThat( list ).extracting( v -> v.name )
+						.containsExactly( "Carrot", "Leek", "Onion" ) )
+				// the results are cached again once the transaction completes,
+				// so an insert by a stateless session isn't seen by the query
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( ss -> ss.insert( new Vegetable( 4, "Potato" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( InProcessQueryCacheTest::findAll ) )
+				.invoke( list -> assertThat( list ).extracting( v -> v.name )
+						.containsExactly( "Carrot", "Leek", "Onion" ) )
+		);
+	}
+
+	@Entity(name = "Vegetable")
+	@Table(name = "InProcessCacheVegetable")
+	static class Vegetable {
+		@Id
+		Integer id;
+		String name;
+
+		Vegetable() {
+		}
+
+		Vegetable(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.FlushMode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.KeyedPage;
+import org.hibernate.reactive.common.KeyedResultList;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static javax.persistence.EnumType.STRING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests keyset pagination via
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Query#getKeyedResultList}.
+ */
+public class KeysetPaginationTest extends BaseReactiveTest {
+
+	private static final int BOOKS = 25;
+
+	private static final int AUTHORS = 4;
+
+	private final List<Author> authors = new ArrayList<>();
+
+	private final List<Book> books = new ArrayList<>();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Author.class );
+		configuration.addAnnotatedClass( Book.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		for ( int i = 1; i <= AUTHORS; i++ ) {
+			authors.add( new Author( i, "author" + ( AUTHORS - i ) ) );
+		}
+		for ( int i = 1; i <= BOOKS; i++ ) {
+			// several books share each title, author, and format
+			Book book = new Book( i, "title" + i % 5, i % 2 == 0 );
+			book.author = authors.get( i % AUTHORS );
+			book.format = Format.values()[i % Format.values().length];
+			books.add( book );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( authors.toArray() )
+						.call( () -> s.persistAll( books.toArray() ) ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Book", "Author" ) );
+	}
+
+	@Test
+	public void testNextAndPreviousPages(TestContext context) {
+		final List<Integer> expected = books.stream()
+				.sorted( Comparator.comparing( (Book book) -> book.title ).thenComparing( book -> book.id ) )
+				.map( book -> book.id )
+				.collect( Collectors.toList() );
+		final KeyedPage first = KeyedPage.first( 10, "book.title", "book.id" );
+		test( context, getMutinySessionFactory().withSession( s -> page( s, first )
+				.invoke( page -> {
+					assertThat( ids( page ) ).isEqualTo( expected.subList( 0, 10 ) );
+					assertThat( page.getPreviousPage() ).isNull();
+				} )
+				.chain( page -> page( s, page.getNextPage() ) )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 10, 20 ) ) )
+				.chain( page -> page( s, page.getNextPage() ) )
+				.invoke( page -> {
+					assertThat( ids( page ) ).isEqualTo( expected.subList( 20, BOOKS ) );
+					assertThat( page.getNextPage() ).isNull();
+				} )
+				.chain( page -> page( s, page.getPreviousPage() ) )
+				.invoke( page -> {
+					// fetched backward, but returned in order
+					assertThat( ids( page ) ).isEqualTo( expected.subList( 10, 20 ) );
+					assertThat( page.getPreviousPage() ).isNotNull();
+				} ) )
+		);
+	}
+
+	@Test
+	public void testRestrictedQuery(TestContext context) {
+		final List<Integer> expected = books.stream()
+				.filter( book -> book.published )
+				.map( book -> book.id )
+				.sorted()
+				.collect( Collectors.toList() );
+		final KeyedPage first = KeyedPage.first( 5, "id" );
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from Book where published = :published", Book.class )
+				.setParameter( "published", true )
+				.getKeyedResultList( first )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 0, 5 ) ) )
+				.chain( page -> s.createQuery( "from Book where published = :published", Book.class )
+						.setParameter( "published", true )
+						.getKeyedResultList( page.getNextPage() ) )
+				.invoke( page -> {
+					assertThat( ids( page ) ).isEqualTo( expected.subList( 5, 10 ) );
+					assertThat( page.getNextPage() ).isNotNull();
+				} ) )
+		);
+	}
+
+	@Test
+	public void testAssociationKey(TestContext context) {
+		final List<Integer> expected = books.stream()
+				.sorted( Comparator.comparing( (Book book) -> book.author.name ).thenComparing( book -> book.id ) )
+				.map( book -> book.id )
+				.collect( Collectors.toList() );
+		final KeyedPage first = KeyedPage.first( 10, "book.author.name", "book.id" );
+		final String query = "from Book book join fetch book.author";
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( query, Book.class )
+				.getKeyedResultList( first )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 0, 10 ) ) )
+				.chain( page -> s.createQuery( query, Book.class ).getKeyedResultList( page.getNextPage() ) )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 10, 20 ) ) ) )
+		);
+	}
+
+	@Test
+	public void testUnfetchedAssociationKey(TestContext context) {
+		final KeyedPage first = KeyedPage.first( 10, "book.author.name", "book.id" );
+		test( context, getMutinySessionFactory().withSession( s -> page( s, first ) )
+				.onItem().invoke( () -> context.fail( "Expected exception not thrown" ) )
+				.onFailure().recoverWithItem( err -> {
+					assertThat( err ).isInstanceOf( IllegalArgumentException.class );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testJoinAliasKeyRejected(TestContext context) {
+		// the book also has an id, but 'a' is the alias of its author
+		final KeyedPage first = KeyedPage.first( 10, "a.id" );
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "select book from Book book join book.author a", Book.class )
+				.getKeyedResultList( first ) )
+				.onItem().invoke( () -> context.fail( "Expected exception not thrown" ) )
+				.onFailure().recoverWithItem( err -> {
+					assertThat( err ).isInstanceOf( IllegalArgumentException.class )
+							.hasMessageContaining( "a.id" );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testEnumKey(TestContext context) {
+		final List<Integer> expected = books.stream()
+				.sorted( Comparator.comparing( (Book book) -> book.format.name() ).thenComparing( book -> book.id ) )
+				.map( book -> book.id )
+				.collect( Collectors.toList() );
+		final KeyedPage first = KeyedPage.first( 10, "format", "id" );
+		test( context, getMutinySessionFactory().withSession( s -> page( s, first )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 0, 10 ) ) )
+				.chain( page -> page( s, page.getNextPage() ) )
+				.invoke( page -> assertThat( ids( page ) ).isEqualTo( expected.subList( 10, 20 ) ) ) )
+		);
+	}
+
+	@Test
+	public void testOrderByRejected(TestContext context) {
+		final KeyedPage first = KeyedPage.first( 10, "id" );
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from Book order by title", Book.class )
+				.setFlushMode( FlushMode.COMMIT )
+				.getKeyedResultList( first )
+				.onItem().invoke( () -> context.fail( "Expected exception not thrown" ) )
+				.onFailure().recoverWithItem( err -> {
+					assertThat( err ).isInstanceOf( IllegalArgumentException.class );
+					// the flush mode of the query didn't leak into the session
+					assertThat( s.getFlushMode() ).isEqualTo( FlushMode.AUTO );
+					return null;
+				} ) )
+		);
+	}
+
+	private static Uni<KeyedResultList<Book>> page(Mutiny.Session session, KeyedPage page) {
+		return session.createQuery( "from Book book", Book.class ).getKeyedResultList( page );
+	}
+
+	private static List<Integer> ids(KeyedResultList<Book> page) {
+		return page.getResultList().stream().map( book -> book.id ).collect( Collectors.toList() );
+	}
+
+	enum Format {
+		HARDCOVER, PAPERBACK, EBOOK
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "KeysetAuthor")
+	static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "KeysetBook")
+	static class Book {
+		@Id
+		Integer id;
+		String title;
+		boolean published;
+		@Enumerated(STRING)
+		Format format;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, boolean published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.ReactiveConnectionStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link org.hibernate.reactive.mutiny.Mutiny.Session#mergeAll}
+ * loads the persistent instances of detached entities, and of their
+ * cascaded children, in batches, instead of one at a time.
+ */
+public class MergeAllTest extends BaseReactiveTest {
+
+	private static final int ORDERS = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Order.class );
+		configuration.addAnnotatedClass( Line.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( orders( "draft" ).toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "OrderLine", "PurchaseOrder" ) );
+	}
+
+	@Test
+	public void testMergeAll(TestContext context) {
+		final List<Order> detached = orders( "final" );
+		final ReactiveConnectionStatistics statistics =
+				( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics();
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> {
+					final long executions = statistics.getStatementExecutionTimes().getCount();
+					return s.mergeAll( detached.toArray() )
+							// one query for the orders, and one for their lines,
+							// instead of one query for each order
+							.invoke( () -> assertThat( statistics.getStatementExecutionTimes().getCount() - executions )
+									.isLessThanOrEqualTo( 2 ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from OrderLine", Line.class )
+						.getResultList() ) )
+				.invoke( lines -> {
+					assertThat( lines ).hasSize( ORDERS * 2 );
+					lines.forEach( line -> assertThat( line.description ).startsWith( "final" ) );
+				} )
+		);
+	}
+
+	private static List<Order> orders(String state) {
+		List<Order> orders = new ArrayList<>();
+		for ( int i = 0; i < ORDERS; i++ ) {
+			Order order = new Order( i );
+			for ( int j = 0; j < 2; j++ ) {
+				Line line = new Line( i * 10 + j, state + " line " + j, order );
+				order.lines.add( line );
+			}
+			orders.add( order );
+		}
+		return orders;
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "MergeAllOrder")
+	static class Order {
+		@Id
+		Integer id;
+		@OneToMany(mappedBy = "purchaseOrder", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+		List<Line> lines = new ArrayList<>();
+
+		Order() {
+		}
+
+		Order(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	@Table(name = "MergeAllLine")
+	static class Line {
+		@Id
+		Integer id;
+		String description;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Order purchaseOrder;
+
+		Line() {
+		}
+
+		Line(Integer id, String description, Order purchaseOrder) {
+			this.id = id;
+			this.description = description;
+			this.purchaseOrder = purchaseOrder;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.impl.Parameters;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the conversion of JDBC-style parameters to PostgreSQL-style
+ * parameters by {@link Parameters}, without a database.
+ */
+public class ParametersTest {
+
+	private final Parameters parameters = Parameters.instance( new PostgreSQL10Dialect() );
+
+	@Test
+	public void testParametersReplaced() {
+		assertThat( parameters.process( "select * from t where a = ? and b = ?" ) )
+				.isEqualTo( "select * from t where a = $1 and b = $2" );
+	}
+
+	@Test
+	public void testQuotedQuestionMarksIgnored() {
+		assertThat( parameters.process( "select '?', \"?\" from t where a = ?" ) )
+				.isEqualTo( "select '?', \"?\" from t where a = $1" );
+		assertThat( parameters.process( "select 'it\\'s?' from t where a = ?" ) )
+				.isEqualTo( "select 'it\\'s?' from t where a = $1" );
+	}
+
+	@Test
+	public void testSurrogatePairsPreserved() {
+		assertThat( parameters.process( "select '\uD83D\uDE00' from t where a = ?" ) )
+				.isEqualTo( "select '\uD83D\uDE00' from t where a = $1" );
+	}
+
+	@Test
+	public void testProcessedSqlCached() {
+		// a string which is unlikely to be used by any other test
+		String sql = "select * from ParametersTest where id = ?";
+		long misses = parameters.getCacheMissCount();
+		long hits = parameters.getCacheHitCount();
+		String processed = parameters.process( sql );
+		assertThat( parameters.process( sql, 1 ) ).isSameAs( processed );
+		assertThat( parameters.getCacheMissCount() ).isEqualTo( misses + 1 );
+		assertThat( parameters.getCacheHitCount() ).isGreaterThanOrEqualTo( hits + 1 );
+	}
+
+	@Test
+	public void testNoParsingForOtherDialects() {
+		String sql = "select * from t where a = ?";
+		assertThat( Parameters.instance( new MySQL8Dialect() ).process( sql ) ).isSameAs( sql );
+	}
+}
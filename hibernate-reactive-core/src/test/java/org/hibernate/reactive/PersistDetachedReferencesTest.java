@@ -0,0 +1,126 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.ReactiveConnectionStatistics;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that persisting entities which refer to detached instances
+ * with assigned ids determines whether the detached instances exist
+ * using one query per entity type, instead of one query per instance.
+ */
+public class PersistDetachedReferencesTest extends BaseReactiveTest {
+
+	private static final int CATEGORIES = 10;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Category.class );
+		configuration.addAnnotatedClass( Product.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( categories().toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Product", "Category" ) );
+	}
+
+	@Test
+	public void testPersistAll(TestContext context) {
+		final List<Product> products = new ArrayList<>();
+		for ( Category category : categories() ) {
+			products.add( new Product( category.id, "product" + category.id, category ) );
+		}
+		final ReactiveConnectionStatistics statistics =
+				( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics();
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> {
+					final long executions = statistics.getStatementExecutionTimes().getCount();
+					return s.persistAll( products.toArray() )
+							// one query for all the categories, instead
+							// of one query for each category
+							.invoke( () -> assertThat( statistics.getStatementExecutionTimes().getCount() - executions )
+									.isLessThanOrEqualTo( 1 ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Product p join fetch p.category", Product.class )
+						.getResultList() ) )
+				.invoke( list -> {
+					assertThat( list ).hasSize( CATEGORIES );
+					list.forEach( product -> assertThat( product.category.id ).isEqualTo( product.id ) );
+				} )
+		);
+	}
+
+	private static List<Category> categories() {
+		List<Category> categories = new ArrayList<>();
+		for ( int i = 0; i < CATEGORIES; i++ ) {
+			categories.add( new Category( i, "category" + i ) );
+		}
+		return categories;
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "DetachedRefCategory")
+	static class Category {
+		@Id
+		Integer id;
+		String name;
+
+		Category() {
+		}
+
+		Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "DetachedRefProduct")
+	static class Product {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Category category;
+
+		Product() {
+		}
+
+		Product(Integer id, String name, Category category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
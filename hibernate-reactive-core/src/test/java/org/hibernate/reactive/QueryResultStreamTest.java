@@ -0,0 +1,190 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@code getResultStream()} for stateful and stateless sessions.
+ */
+public class QueryResultStreamTest extends BaseReactiveTest {
+
+	private static final int BOOKS = 25;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < BOOKS; i++ ) {
+			books.add( new Book( i, "Book " + i ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( books.toArray() ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Book" ) );
+	}
+
+	@Test
+	public void testResultStreamWithMutiny(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.createQuery( "from Book order by id", Book.class )
+				.setFetchSize( 10 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( list -> {
+					assertThat( list ).hasSize( BOOKS );
+					assertThat( list.get( 0 ).id ).isEqualTo( 0 );
+					assertThat( list.get( BOOKS - 1 ).id ).isEqualTo( BOOKS - 1 );
+					assertThat( s.contains( list.get( 0 ) ) ).isTrue();
+				} ) )
+		);
+	}
+
+	@Test
+	public void testResultStreamOutsideTransaction(TestContext context) {
+		final long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withSession( s -> {
+			executions[0] = executions();
+			return s.createQuery( "from Book order by id", Book.class )
+					.setFetchSize( 5 )
+					.getResultStream()
+					.collect().asList()
+					.invoke( list -> {
+						assertThat( list ).hasSize( BOOKS );
+						// one read for each page of results, and, since the
+						// last page is full, perhaps one more empty read if
+						// the database didn't report the end of the results
+						assertThat( executions() - executions[0] ).isBetween( (long) BOOKS / 5, (long) BOOKS / 5 + 1 );
+					} )
+					// the transaction which held the cursor open has ended,
+					// so the session may start a transaction of its own
+					.chain( () -> s.withTransaction( tx -> s
+							.createQuery( "select count(*) from Book", Long.class )
+							.getSingleResult() ) )
+					.invoke( count -> assertThat( count ).isEqualTo( BOOKS ) );
+		} ) );
+	}
+
+	@Test
+	public void testResultStreamWithMaxResults(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.createQuery( "from Book order by id", Book.class )
+				.setFetchSize( 3 )
+				.setFirstResult( 5 )
+				.setMaxResults( 7 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( list -> {
+					assertThat( list ).hasSize( 7 );
+					assertThat( list.get( 0 ).id ).isEqualTo( 5 );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testResultStreamCancelled(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.createQuery( "from Book order by id", Book.class )
+				.setFetchSize( 4 )
+				.getResultStream()
+				.transform().byTakingFirstItems( 6 )
+				.collect().asList()
+				.invoke( list -> assertThat( list ).hasSize( 6 ) )
+				// the connection is still usable after the cursor is closed
+				.chain( () -> s.createQuery( "select count(*) from Book", Long.class ).getSingleResult() )
+				.invoke( count -> assertThat( count ).isEqualTo( BOOKS ) ) )
+		);
+	}
+
+	@Test
+	public void testResultStreamWithStatelessSession(TestContext context) {
+		test( context, getMutinySessionFactory().withStatelessTransaction( (s, tx) -> s
+				.createQuery( "select title from Book order by id", String.class )
+				.setFetchSize( 10 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( list -> assertThat( list ).hasSize( BOOKS ).startsWith( "Book 0", "Book 1" ) ) )
+		);
+	}
+
+	@Test
+	public void testResultStreamWithStage(TestContext context) {
+		test( context, getSessionFactory().withTransaction( (s, tx) -> Multi.createFrom()
+				.publisher( s.createQuery( "from Book order by id", Book.class )
+						.setFetchSize( 7 )
+						.getResultStream() )
+				.collect().asList()
+				.subscribeAsCompletionStage()
+				.thenAccept( list -> assertThat( list ).hasSize( BOOKS ) ) )
+		);
+	}
+
+	private long executions() {
+		return ( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics()
+				.getStatementExecutionTimes().getCount();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "BookForStreaming")
+	static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Book book = (Book) o;
+			return Objects.equals( title, book.title );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( title );
+		}
+	}
+}
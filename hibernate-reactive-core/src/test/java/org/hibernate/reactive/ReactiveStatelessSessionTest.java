@@ -5,8 +5,11 @@
  */
 package org.hibernate.reactive;
 
+import io.smallrye.mutiny.Multi;
 import io.vertx.ext.unit.TestContext;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.stage.Stage;
 
 import org.junit.After;
@@ -18,6 +21,8 @@
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 
@@ -27,12 +32,15 @@ public class ReactiveStatelessSessionTest extends BaseReactiveTest {
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.addAnnotatedClass( GuineaPig.class );
+		configuration.addAnnotatedClass( Hamster.class );
+		configuration.addAnnotatedClass( Gerbil.class );
+		configuration.setProperty( Settings.GENERATE_STATISTICS, "true" );
 		return configuration;
 	}
 
 	@After
 	public void cleanDb(TestContext context) {
-		test( context, deleteEntities( "GuineaPig" ) );
+		test( context, deleteEntities( "GuineaPig", "Hamster", "Gerbil" ) );
 	}
 
 	@Test
@@ -195,6 +203,109 @@ public void testSessionPropagation(TestContext context) {
 		) );
 	}
 
+	@Test
+	public void testStreamingInsert(TestContext context) {
+		Multi<GuineaPig> pigs = Multi.createFrom().range( 0, 25 )
+				.onItem().transform( i -> new GuineaPig( "Pig" + i ) );
+		test( context, getSessionFactory().withStatelessSession( ss -> ss
+				.insert( pigs, 10 )
+				.thenCompose( v -> ss.createQuery( "select count(*) from GuineaPig" ).getSingleResult() )
+				.thenAccept( count -> context.assertEquals( 25L, count ) ) )
+		);
+	}
+
+	@Test
+	public void testStreamingInsertWithMutiny(TestContext context) {
+		Multi<GuineaPig> pigs = Multi.createFrom().range( 0, 25 )
+				.onItem().transform( i -> new GuineaPig( "Pig" + i ) );
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.insertAll( pigs, 10 )
+				.chain( () -> ss.createQuery( "select count(*) from GuineaPig" ).getSingleResult() )
+				.invoke( count -> context.assertEquals( 25L, count ) ) )
+		);
+	}
+
+	@Test
+	public void testRefreshAll(TestContext context) {
+		GuineaPig[] pigs = { new GuineaPig( "Aloi" ), new GuineaPig( "Bibbo" ), new GuineaPig( "Cuddles" ) };
+		long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.insertAll( (Object[]) pigs )
+				.chain( () -> ss.createQuery( "update GuineaPig set name = concat(name, '!')" ).executeUpdate() )
+				.invoke( () -> executions[0] = executions() )
+				.chain( () -> ss.refreshAll( (Object[]) pigs ) )
+				.invoke( () -> {
+					// the pigs are loaded by a single query
+					context.assertEquals( 1L, executions() - executions[0] );
+					context.assertEquals( "Aloi!", pigs[0].getName() );
+					context.assertEquals( "Bibbo!", pigs[1].getName() );
+					context.assertEquals( "Cuddles!", pigs[2].getName() );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testRefreshAllWithCollection(TestContext context) {
+		Gerbil[] gerbils = { new Gerbil( 1, "Gerry" ), new Gerbil( 2, "Bill" ) };
+		List<?> toys = gerbils[0].toys;
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.insertAll( (Object[]) gerbils )
+				.chain( () -> ss.createQuery( "update Gerbil set name = concat(name, '!')" ).executeUpdate() )
+				.chain( () -> ss.refreshAll( (Object[]) gerbils ) )
+				.invoke( () -> {
+					context.assertEquals( "Gerry!", gerbils[0].name );
+					context.assertEquals( "Bill!", gerbils[1].name );
+					// the collections aren't replaced by the collections
+					// of the instances loaded by the query
+					context.assertTrue( toys == gerbils[0].toys );
+					context.assertTrue( gerbils[0].toys != gerbils[1].toys );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testDeleteAll(TestContext context) {
+		GuineaPig[] pigs = { new GuineaPig( "Aloi" ), new GuineaPig( "Bibbo" ) };
+		Hamster[] hamsters = { new Hamster( 1, "Hammy" ), new Hamster( 2, "Nibbles" ), new Hamster( 3, "Fluffy" ) };
+		long[] executions = new long[1];
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.insertAll( pigs[0], pigs[1], hamsters[0], hamsters[1], hamsters[2] )
+				.invoke( () -> executions[0] = executions() )
+				.chain( () -> ss.deleteAll( hamsters[0], hamsters[2], pigs[0], pigs[1] ) )
+				// the hamsters are unversioned, and are deleted by a single
+				// statement, but the pigs are versioned, and are deleted one
+				// by one, since statements aren't batched here
+				.invoke( () -> context.assertEquals( 3L, executions() - executions[0] ) )
+				.chain( () -> ss.createQuery( "select count(*) from GuineaPig" ).getSingleResult() )
+				.invoke( count -> context.assertEquals( 0L, count ) )
+				.chain( () -> ss.createQuery( "from Hamster", Hamster.class ).getResultList() )
+				.invoke( list -> {
+					context.assertEquals( 1, list.size() );
+					context.assertEquals( "Nibbles", list.get( 0 ).name );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testDeleteAllWithDuplicates(TestContext context) {
+		Hamster[] hamsters = { new Hamster( 1, "Hammy" ), new Hamster( 2, "Nibbles" ), new Hamster( 3, "Fluffy" ) };
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.insertAll( (Object[]) hamsters )
+				// the row of a hamster given twice is only deleted once
+				.chain( () -> ss.deleteAll( hamsters[0], hamsters[1], hamsters[0] ) )
+				.chain( () -> ss.createQuery( "from Hamster", Hamster.class ).getResultList() )
+				.invoke( list -> {
+					context.assertEquals( 1, list.size() );
+					context.assertEquals( "Fluffy", list.get( 0 ).name );
+				} ) )
+		);
+	}
+
+	private long executions() {
+		return ( (SqlClientPool) factoryManager.getReactiveConnectionPool() ).getConnectionStatistics()
+				.getStatementExecutionTimes().getCount();
+	}
+
 	private void assertThatPigsAreEqual(TestContext context, GuineaPig expected, GuineaPig actual) {
 		context.assertNotNull( actual );
 		context.assertEquals( expected.getId(), actual.getId() );
@@ -259,4 +370,39 @@ public int hashCode() {
 			return Objects.hash( name );
 		}
 	}
+
+	@Entity(name="Hamster")
+	@Table(name="StatelessHamster")
+	public static class Hamster {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Hamster() {
+		}
+
+		public Hamster(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name="Gerbil")
+	@Table(name="StatelessGerbil")
+	public static class Gerbil {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		@CollectionTable(name="StatelessGerbilToys")
+		private List<String> toys = new ArrayList<>();
+
+		public Gerbil() {
+		}
+
+		public Gerbil(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
 }
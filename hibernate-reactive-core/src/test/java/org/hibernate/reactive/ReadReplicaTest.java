@@ -0,0 +1,156 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.ReadReplicaSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link ReadReplicaSqlClientPool}, using the test database
+ * itself as the only read replica, and counting the connections
+ * obtained from the pool of the replica. Statement batching is
+ * enabled, so that session connections are wrapped in a
+ * {@link org.hibernate.reactive.pool.BatchingConnection}.
+ */
+public class ReadReplicaTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, CountingReadReplicaPool.class.getName() );
+		configuration.setProperty( Settings.REPLICA_URLS, DatabaseConfiguration.getJdbcUrl() );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "10" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		CountingReadReplicaPool.replicaConnections.set( 0 );
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( new Book( 1, "Emma" ), new Book( 2, "Persuasion" ) ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Book" ) );
+	}
+
+	@Test
+	public void testReadOnlySession(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.setDefaultReadOnly( true )
+				.find( Book.class, 1 )
+				.invoke( book -> {
+					assertThat( book.title ).isEqualTo( "Emma" );
+					assertThat( s.isReadOnly( book ) ).isTrue();
+					assertThat( CountingReadReplicaPool.replicaConnections ).hasValue( 1 );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQuery(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from Book order by id", Book.class )
+				.setReadOnly( true )
+				.getResultList()
+				.invoke( books -> {
+					assertThat( books ).extracting( book -> book.title )
+							.containsExactly( "Emma", "Persuasion" );
+					assertThat( CountingReadReplicaPool.replicaConnections ).hasValue( 1 );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testStatelessGet(TestContext context) {
+		test( context, getMutinySessionFactory().withStatelessSession( ss -> ss
+				.get( Book.class, 2 )
+				.invoke( book -> {
+					assertThat( book.title ).isEqualTo( "Persuasion" );
+					assertThat( CountingReadReplicaPool.replicaConnections ).hasValue( 1 );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQueryInTransaction(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.persist( new Book( 3, "Sanditon" ) )
+				.call( s::flush )
+				// within a transaction, the query sees the flushed changes
+				.chain( () -> s.createQuery( "from Book order by id", Book.class )
+						.setReadOnly( true )
+						.getResultList() )
+				.invoke( books -> {
+					assertThat( books ).hasSize( 3 );
+					assertThat( CountingReadReplicaPool.replicaConnections ).hasValue( 0 );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testQueryNotReadOnly(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from Book order by id", Book.class )
+				.getResultList()
+				.invoke( books -> {
+					assertThat( books ).hasSize( 2 );
+					assertThat( CountingReadReplicaPool.replicaConnections ).hasValue( 0 );
+				} ) )
+		);
+	}
+
+	/**
+	 * Counts the connections obtained from the pool of a replica.
+	 */
+	public static class CountingReadReplicaPool extends ReadReplicaSqlClientPool {
+		static final AtomicInteger replicaConnections = new AtomicInteger();
+
+		@Override
+		protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
+			if ( pool != getPool() ) {
+				replicaConnections.incrementAndGet();
+			}
+			return super.getConnectionFromPool( pool );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "ReplicaBook")
+	static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
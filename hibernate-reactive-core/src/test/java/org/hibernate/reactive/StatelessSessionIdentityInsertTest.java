@@ -0,0 +1,91 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests inserting several instances of an entity with an
+ * {@link GenerationType#IDENTITY identity} id using a
+ * stateless session, which sends every insert at once.
+ */
+public class StatelessSessionIdentityInsertTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( AuditEntry.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "AuditEntry" ) );
+	}
+
+	@Test
+	public void testInsertAll(TestContext context) {
+		AuditEntry[] entries = new AuditEntry[10];
+		for ( int i = 0; i < entries.length; i++ ) {
+			entries[i] = new AuditEntry( "event" + i );
+		}
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( ss -> ss.insertAll( (Object[]) entries ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( ss -> ss
+						.createQuery( "from AuditEntry", AuditEntry.class )
+						.getResultList() ) )
+				.invoke( list -> {
+					Set<Long> ids = new HashSet<>();
+					for ( AuditEntry entry : entries ) {
+						assertThat( entry.id ).isNotNull();
+						ids.add( entry.id );
+					}
+					// every entity was assigned its own id
+					assertThat( ids ).hasSize( entries.length );
+					assertThat( list ).hasSize( entries.length );
+					// and the ids were assigned in order
+					for ( AuditEntry loaded : list ) {
+						for ( AuditEntry entry : entries ) {
+							if ( entry.id.equals( loaded.id ) ) {
+								assertThat( loaded.event ).isEqualTo( entry.event );
+							}
+						}
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "AuditEntry")
+	@Table(name = "IdentityAuditEntry")
+	static class AuditEntry {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String event;
+
+		AuditEntry() {
+		}
+
+		AuditEntry(String event) {
+			this.event = event;
+		}
+	}
+}
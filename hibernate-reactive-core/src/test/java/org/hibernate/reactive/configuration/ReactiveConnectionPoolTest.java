@@ -5,15 +5,18 @@
  */
 package org.hibernate.reactive.configuration;
 
+import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.engine.jdbc.internal.JdbcServicesImpl;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPoolConfiguration;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
@@ -32,8 +35,11 @@
 import io.vertx.ext.unit.junit.RunTestOnContext;
 import io.vertx.ext.unit.junit.Timeout;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.Pool;
 
 import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 @RunWith(VertxUnitRunner.class)
 public class ReactiveConnectionPoolTest {
@@ -67,6 +73,10 @@ protected static void test(TestContext context, CompletionStage<?> cs) {
 	}
 
 	private ReactiveConnectionPool configureAndStartPool(Map<String, Object> config) {
+		return configureAndStartPool( config, new DefaultSqlClientPool() );
+	}
+
+	private <P extends DefaultSqlClientPool> P configureAndStartPool(Map<String, Object> config, P reactivePool) {
 		DefaultSqlClientPoolConfiguration poolConfig = new DefaultSqlClientPoolConfiguration();
 		poolConfig.configure( config );
 		registryRule.addService( SqlClientPoolConfiguration.class, poolConfig );
@@ -76,7 +86,6 @@ public SqlStatementLogger getSqlStatementLogger() {
 				return new SqlStatementLogger();
 			}
 		} );
-		DefaultSqlClientPool reactivePool = new DefaultSqlClientPool();
 		reactivePool.injectServices( registryRule.getServiceRegistry() );
 		reactivePool.configure( config );
 		reactivePool.start();
@@ -110,6 +119,70 @@ public void configureWithCredentials(TestContext context) {
 		verifyConnectivity( context, reactivePool );
 	}
 
+	@Test
+	public void configureWithPoolPerEventLoop(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_PER_EVENT_LOOP, "true" );
+		config.put( Settings.POOL_EVENT_LOOP_SIZE, "2" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		verifyConnectivity( context, reactivePool );
+	}
+
+	@Test
+	public void configureWithPoolPerEventLoopAndSmallPool(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_PER_EVENT_LOOP, "true" );
+		// there are always at least two event loops
+		config.put( Settings.POOL_SIZE, "1" );
+		CountingEventLoopPool reactivePool = configureAndStartPool( config, new CountingEventLoopPool() );
+		// the only connection belongs to the shared pool
+		verifyConnectivity( context, reactivePool );
+		context.assertEquals( 0, reactivePool.eventLoopPools.get() );
+	}
+
+	@Test
+	public void configureWithPoolPerEventLoopAndOneConnectionPerPool(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_PER_EVENT_LOOP, "true" );
+		config.put( Settings.POOL_SIZE, "2" );
+		CountingEventLoopPool reactivePool = configureAndStartPool( config, new CountingEventLoopPool() );
+		// one connection for the pool of the test's event loop,
+		// and the other for the shared pool
+		verifyConnectivity( context, reactivePool );
+		context.assertEquals( 1, reactivePool.eventLoopPools.get() );
+	}
+
+	@Test
+	public void configureWithValidationQuery(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_VALIDATION_QUERY, "select 1" );
+		config.put( Settings.POOL_CONNECTION_RETRIES, "2" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		verifyConnectivity( context, reactivePool );
+	}
+
+	@Test
+	public void configureWithFailingValidationQuery(TestContext context) {
+		thrown.expect( CompletionException.class );
+		thrown.expectMessage( "io.vertx.pgclient.PgException:" );
+
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_VALIDATION_QUERY, "select * from NoSuchTable" );
+		config.put( Settings.POOL_CONNECTION_RETRIES, "2" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		verifyConnectivity( context, reactivePool );
+	}
+
 	@Test
 	public void configureWithWrongCredentials(TestContext context) {
 		thrown.expect( CompletionException.class );
@@ -125,6 +198,82 @@ public void configureWithWrongCredentials(TestContext context) {
 		verifyConnectivity( context, reactivePool );
 	}
 
+	@Test
+	public void retryAfterConnectionClosed(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_CONNECTION_RETRIES, "1" );
+		BrokenConnectionPool reactivePool = configureAndStartPool( config, new BrokenConnectionPool() );
+
+		test( context, reactivePool.getConnection()
+				.thenCompose( connection -> backendPid( connection )
+						.thenCompose( pid -> reactivePool.getConnection()
+								// close the first connection from the database side
+								.thenCompose( admin -> admin
+										.select( "select pg_terminate_backend(" + pid + ")" )
+										.thenCompose( rows -> waitForBackendExit( admin, pid ) )
+										.thenCompose( v -> admin.close() ) )
+								.thenCompose( v -> {
+									// the proxy gets the closed connection first
+									reactivePool.broken = connection;
+									reactivePool.connections.set( 0 );
+									ReactiveConnection proxy = reactivePool.getProxyConnection();
+									return backendPid( proxy )
+											.thenAccept( newPid -> {
+												context.assertNotEquals( pid, newPid );
+												// the query was retried using a second connection
+												context.assertEquals( 2, reactivePool.connections.get() );
+											} )
+											.thenCompose( vv -> proxy.close() );
+								} ) ) ) );
+	}
+
+	private static CompletionStage<Object> backendPid(ReactiveConnection connection) {
+		return connection.select( "select pg_backend_pid()" )
+				.thenApply( rows -> rows.next()[0] );
+	}
+
+	private static CompletionStage<Void> waitForBackendExit(ReactiveConnection connection, Object pid) {
+		return connection.select( "select count(*) from pg_stat_activity where pid = " + pid )
+				.thenCompose( rows -> ( (Number) rows.next()[0] ).longValue() == 0
+						? voidFuture()
+						: waitForBackendExit( connection, pid ) );
+	}
+
+	/**
+	 * Hands out a connection which was closed by the database,
+	 * if there is one, before obtaining connections from the pool.
+	 */
+	private static class BrokenConnectionPool extends DefaultSqlClientPool {
+		final AtomicInteger connections = new AtomicInteger();
+		ReactiveConnection broken;
+
+		@Override
+		public CompletionStage<ReactiveConnection> getConnection() {
+			connections.incrementAndGet();
+			if ( broken != null ) {
+				ReactiveConnection connection = broken;
+				broken = null;
+				return completedFuture( connection );
+			}
+			return super.getConnection();
+		}
+	}
+
+	/**
+	 * Counts the event loops with a pool of their own.
+	 */
+	private static class CountingEventLoopPool extends DefaultSqlClientPool {
+		final AtomicInteger eventLoopPools = new AtomicInteger();
+
+		@Override
+		protected Pool createEventLoopPool(URI uri) {
+			eventLoopPools.incrementAndGet();
+			return super.createEventLoopPool( uri );
+		}
+	}
+
 	private void verifyConnectivity(TestContext context, ReactiveConnectionPool reactivePool) {
 		test( context, reactivePool.getConnection().thenCompose(
 				connection -> connection.select( "SELECT 1")
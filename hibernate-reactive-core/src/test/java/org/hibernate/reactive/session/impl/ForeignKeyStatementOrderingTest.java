@@ -0,0 +1,216 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests which statements {@link ForeignKeyStatementOrdering} allows
+ * to be moved ahead of an earlier statement, given the foreign keys
+ * of the mapped tables. No database is needed, since the ordering
+ * only depends on the mapping metadata.
+ */
+public class ForeignKeyStatementOrderingTest {
+
+	private static StandardServiceRegistry registry;
+	private static ForeignKeyStatementOrdering ordering;
+
+	@BeforeClass
+	public static void buildOrdering() {
+		registry = new StandardServiceRegistryBuilder()
+				.applySetting( Settings.DIALECT, PostgreSQL10Dialect.class.getName() )
+				// don't connect to the database to obtain the JDBC metadata
+				.applySetting( "hibernate.temp.use_jdbc_metadata_defaults", "false" )
+				.build();
+		MetadataImplementor metadata = (MetadataImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClass( Publisher.class )
+				.addAnnotatedClass( Order.class )
+				.addAnnotatedClass( Line.class )
+				.addAnnotatedClass( Invoice.class )
+				.addAnnotatedClass( InvoiceLine.class )
+				.buildMetadata();
+		ordering = new ForeignKeyStatementOrdering( metadata, registry.getService( JdbcEnvironment.class ) );
+	}
+
+	@AfterClass
+	public static void destroyRegistry() {
+		StandardServiceRegistryBuilder.destroy( registry );
+	}
+
+	@Test
+	public void testInserts() {
+		// a book references its author, so the author must be inserted first
+		assertThat( ordering.mayPrecede( insert( "Book" ), insert( "Author" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "Author" ), insert( "Book" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( insert( "Publisher" ), insert( "Book" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( insert( "Book" ), insert( "Publisher" ) ) ).isTrue();
+	}
+
+	@Test
+	public void testDeletes() {
+		// a book references its author, so the book must be deleted first
+		assertThat( ordering.mayPrecede( delete( "Author" ), delete( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( delete( "Book" ), delete( "Author" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( delete( "Publisher" ), delete( "Book" ) ) ).isTrue();
+	}
+
+	@Test
+	public void testUpdates() {
+		// an update might change a foreign key in either direction
+		assertThat( ordering.mayPrecede( update( "Book" ), update( "Author" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( update( "Author" ), update( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( update( "Book" ), insert( "Author" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "Author" ), update( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( delete( "Author" ), update( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( update( "Publisher" ), update( "Book" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( update( "Book" ), insert( "Publisher" ) ) ).isTrue();
+	}
+
+	@Test
+	public void testSameTable() {
+		assertThat( ordering.mayPrecede( insert( "Book" ), update( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( delete( "Book" ), insert( "Book" ) ) ).isFalse();
+		// the table name is case insensitive
+		assertThat( ordering.mayPrecede( insert( "BOOK" ), update( "book" ) ) ).isFalse();
+	}
+
+	@Test
+	public void testUnknownStatementsAndTables() {
+		assertThat( ordering.mayPrecede( "select id from Publisher", insert( "Book" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "Publisher" ), "{call refresh_books()}" ) ).isFalse();
+		// a table which isn't mapped might have a foreign key to any table
+		assertThat( ordering.mayPrecede( insert( "Unmapped" ), insert( "Publisher" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( delete( "Publisher" ), delete( "Unmapped" ) ) ).isFalse();
+	}
+
+	@Test
+	public void testQuotedTableNames() {
+		// an order line references its order
+		assertThat( ordering.mayPrecede( insert( "\"Order Line\"" ), insert( "\"Order\"" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "\"Order\"" ), insert( "\"Order Line\"" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( delete( "\"Order\"" ), delete( "\"Order Line\"" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( delete( "\"Order Line\"" ), delete( "\"Order\"" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( insert( "\"Order Line\"" ), insert( "Publisher" ) ) ).isTrue();
+		// the same table, quoted or not
+		assertThat( ordering.mayPrecede( insert( "\"Order\"" ), update( "\"Order\"" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "\"Publisher\"" ), update( "Publisher" ) ) ).isFalse();
+	}
+
+	@Test
+	public void testSchemaQualifiedTableNames() {
+		// an invoice line references its invoice
+		assertThat( ordering.mayPrecede( insert( "billing.InvoiceLine" ), insert( "billing.Invoice" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "billing.Invoice" ), insert( "billing.InvoiceLine" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( delete( "billing.Invoice" ), delete( "billing.InvoiceLine" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "\"billing\".\"InvoiceLine\"" ), insert( "billing.Invoice" ) ) ).isFalse();
+		assertThat( ordering.mayPrecede( insert( "billing.Invoice" ), insert( "Book" ) ) ).isTrue();
+		// the unqualified name isn't the name of a mapped table
+		assertThat( ordering.mayPrecede( insert( "Invoice" ), insert( "Book" ) ) ).isFalse();
+	}
+
+	@Test
+	public void testStatementParsing() {
+		// a comment, as added by hibernate.use_sql_comments
+		assertThat( ordering.mayPrecede( "/* insert Author */ insert into Author (id) values (?)", insert( "Book" ) ) )
+				.isTrue();
+		assertThat( ordering.mayPrecede( "/* insert Book */ insert into Book (author_id, id) values (?, ?)", insert( "Author" ) ) )
+				.isFalse();
+		// keywords in any case, separated by any whitespace
+		assertThat( ordering.mayPrecede( "  INSERT\n\tINTO Author (id) values (?)", insert( "Book" ) ) ).isTrue();
+		assertThat( ordering.mayPrecede( "DELETE  FROM Author where id=?", delete( "Book" ) ) ).isFalse();
+		// no whitespace between the table name and the column list
+		assertThat( ordering.mayPrecede( "insert into Book(author_id, id) values (?, ?)", insert( "Author" ) ) )
+				.isFalse();
+		assertThat( ordering.mayPrecede( "insert into \"Order Line\"(order_id, id) values (?, ?)", insert( "\"Order\"" ) ) )
+				.isFalse();
+	}
+
+	private static String insert(String table) {
+		return "insert into " + table + " (id) values (?)";
+	}
+
+	private static String update(String table) {
+		return "update " + table + " set version=? where id=?";
+	}
+
+	private static String delete(String table) {
+		return "delete from " + table + " where id=?";
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "Author")
+	static class Author {
+		@Id
+		Integer id;
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "Book")
+	static class Book {
+		@Id
+		Integer id;
+		@ManyToOne
+		Author author;
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "Publisher")
+	static class Publisher {
+		@Id
+		Integer id;
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "`Order`")
+	static class Order {
+		@Id
+		Integer id;
+	}
+
+	@Entity(name = "OrderLine")
+	@Table(name = "`Order Line`")
+	static class Line {
+		@Id
+		Integer id;
+		@ManyToOne
+		Order order;
+	}
+
+	@Entity(name = "Invoice")
+	@Table(name = "Invoice", schema = "billing")
+	static class Invoice {
+		@Id
+		Integer id;
+	}
+
+	@Entity(name = "InvoiceLine")
+	@Table(name = "InvoiceLine", schema = "billing")
+	static class InvoiceLine {
+		@Id
+		Integer id;
+		@ManyToOne
+		Invoice invoice;
+	}
+}